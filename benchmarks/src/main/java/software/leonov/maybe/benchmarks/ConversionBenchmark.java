@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Measures {@link Maybe#toOptional()}, {@link Maybe#toString()} and {@link Maybe#stream()}.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConversionBenchmark {
+
+    @Param({ "PRESENT", "NULL", "ABSENT" })
+    public Kind kind;
+
+    private Maybe<String>    maybe;
+    private Optional<String> optional;
+    private String           value;
+
+    @Setup
+    public void setup() {
+        maybe    = kind.maybe();
+        optional = kind.optional();
+        value    = kind.value();
+    }
+
+    @Benchmark
+    public Optional<String> maybeOfToOptional() {
+        return (kind == Kind.ABSENT ? Maybe.<String>absent() : Maybe.of(value)).toOptional();
+    }
+
+    @Benchmark
+    public Optional<String> maybeToOptional() {
+        return maybe.toOptional();
+    }
+
+    @Benchmark
+    public Optional<String> nullCheckToOptional() {
+        return Optional.ofNullable(value);
+    }
+
+    @Benchmark
+    public String maybeToString() {
+        return maybe.toString();
+    }
+
+    @Benchmark
+    public String optionalToString() {
+        return optional.toString();
+    }
+
+    @Benchmark
+    public String nullCheckToString() {
+        return value != null ? "Value[" + value + "]" : "Value[]";
+    }
+
+    @Benchmark
+    public long maybeStream() {
+        return maybe.stream().count();
+    }
+
+    @Benchmark
+    public long optionalStream() {
+        return optional.map(Stream::of).orElseGet(Stream::empty).count();
+    }
+
+    @Benchmark
+    public long nullCheckStream() {
+        return (value != null ? Stream.of(value) : Stream.empty()).count();
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Measures the cost of {@link Maybe#of(Object)} and {@link Maybe#absent()}.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CreationBenchmark {
+
+    @Param({ "PRESENT", "NULL" })
+    public Kind kind;
+
+    private String value;
+
+    @Setup
+    public void setup() {
+        value = kind.value();
+    }
+
+    @Benchmark
+    public Maybe<String> maybeOf() {
+        return Maybe.of(value);
+    }
+
+    @Benchmark
+    public Optional<String> optionalOfNullable() {
+        return Optional.ofNullable(value);
+    }
+
+    @Benchmark
+    public String nullCheck() {
+        return value != null ? value : null;
+    }
+
+    @Benchmark
+    public Maybe<String> maybeAbsent() {
+        return Maybe.absent();
+    }
+
+    @Benchmark
+    public Optional<String> optionalEmpty() {
+        return Optional.empty();
+    }
+
+}
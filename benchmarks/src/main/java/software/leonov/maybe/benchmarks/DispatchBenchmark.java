@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Compares a {@code map/filter/defaultTo} chain on the {@code Absent/Null/Present} {@link Maybe} hierarchy against the
+ * original flag-based {@link LegacyMaybe}, with call sites that see one, two or three receiver classes, and with a
+ * fourth receiver class when already evaluated {@link Maybe#lazy(java.util.function.Supplier) lazy} instances reach the
+ * same call sites.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DispatchBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final Function<String, Integer> LENGTH   = s -> s == null ? -1 : s.length();
+    private static final Predicate<Integer>        POSITIVE = i -> i > 0;
+
+    /**
+     * {@code monomorphic}: present values only, {@code bimorphic}: present and absent values, {@code megamorphic}:
+     * present, absent and {@code null} values, {@code lazy}: all of the above plus evaluated lazy values (present
+     * values for {@code LegacyMaybe}).
+     */
+    @Param({ "monomorphic", "bimorphic", "megamorphic", "lazy" })
+    public String shape;
+
+    private Maybe<String>[]       maybes;
+    private LegacyMaybe<String>[] legacy;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        final int kinds = shape.equals("monomorphic") ? 1
+                : shape.equals("bimorphic") ? 2 : shape.equals("megamorphic") ? 3 : 4;
+
+        maybes = new Maybe[SIZE];
+        legacy = new LegacyMaybe[SIZE];
+
+        for (int i = 0; i < SIZE; i++)
+            switch (i % kinds) {
+            case 0:
+                maybes[i] = Maybe.of("value" + i);
+                legacy[i] = LegacyMaybe.of("value" + i);
+                break;
+            case 1:
+                maybes[i] = Maybe.absent();
+                legacy[i] = LegacyMaybe.absent();
+                break;
+            case 2:
+                maybes[i] = Maybe.of(null);
+                legacy[i] = LegacyMaybe.of(null);
+                break;
+            default:
+                final String value = "value" + i;
+                maybes[i] = Maybe.lazy(() -> Maybe.of(value));
+                maybes[i].isPresent();
+                legacy[i] = LegacyMaybe.of(value);
+            }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int hierarchy() {
+        int sum = 0;
+        for (final Maybe<String> maybe : maybes)
+            sum += maybe.map(LENGTH).filter(POSITIVE).defaultTo(0);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int flag() {
+        int sum = 0;
+        for (final LegacyMaybe<String> maybe : legacy)
+            sum += maybe.map(LENGTH).filter(POSITIVE).defaultTo(0);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int hierarchyIsNull() {
+        int count = 0;
+        for (final Maybe<String> maybe : maybes)
+            if (maybe.isNull())
+                count++;
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int flagIsNull() {
+        int count = 0;
+        for (final LegacyMaybe<String> maybe : legacy)
+            if (maybe.isNull())
+                count++;
+        return count;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+import software.leonov.maybe.MaybeStreams;
+
+/**
+ * Compares flattening a stream of {@link Maybe} instances with {@code flatMap(Maybe::stream)},
+ * {@link MaybeStreams#present(Stream)} and the {@link LegacyMaybe} {@code Stream.of} based {@code stream()}, against a
+ * plain {@code filter} over the same elements.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FlattenBenchmark {
+
+    private List<Maybe<Integer>>       maybes;
+    private List<LegacyMaybe<Integer>> legacy;
+
+    @Setup
+    public void setup() {
+        maybes = new ArrayList<>();
+        legacy = new ArrayList<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            final int r = random.nextInt(8);
+            if (r < 2) {
+                maybes.add(Maybe.absent());
+                legacy.add(LegacyMaybe.absent());
+            } else {
+                final Integer value = r == 2 ? null : random.nextInt(100);
+                maybes.add(Maybe.of(value));
+                legacy.add(LegacyMaybe.of(value));
+            }
+        }
+    }
+
+    @Benchmark
+    public long flatMap() {
+        return maybes.stream().flatMap(Maybe::stream).count();
+    }
+
+    @Benchmark
+    public long legacyFlatMap() {
+        return legacy.stream().flatMap(LegacyMaybe::stream).count();
+    }
+
+    @Benchmark
+    public long present() {
+        return MaybeStreams.present(maybes.stream()).count();
+    }
+
+    @Benchmark
+    public long filter() {
+        return maybes.stream().filter(Maybe::isPresent).count();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+import software.leonov.maybe.MaybeArray;
+
+/**
+ * Compares resolving a batch of keys, half of which are missing, with {@link Maybe#getAll(Map, Object...)} against a
+ * loop of {@link Maybe#get(Map, Object)} calls collected into a list.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GetAllBenchmark {
+
+    @Param({ "HashMap", "ConcurrentHashMap" })
+    public String type;
+
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private Map<String, String> map;
+    private String[]            keys;
+
+    @Setup
+    public void setup() {
+        map = type.equals("HashMap") ? new HashMap<>() : new ConcurrentHashMap<>();
+        final List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (i % 2 == 0)
+                map.put("key" + i, "value" + i);
+            list.add("key" + i);
+        }
+        Collections.shuffle(list);
+        keys = list.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public MaybeArray<String> getAll() {
+        return Maybe.getAll(map, (Object[]) keys);
+    }
+
+    @Benchmark
+    public List<Maybe<String>> getLoop() {
+        final List<Maybe<String>> results = new ArrayList<>(keys.length);
+        for (final String key : keys)
+            results.add(Maybe.get(map, key));
+        return results;
+    }
+
+}
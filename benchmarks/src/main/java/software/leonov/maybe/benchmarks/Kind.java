@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.Optional;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * The three states a benchmark input can be in.
+ * 
+ * @author Zhenya Leonov
+ */
+public enum Kind {
+
+    PRESENT {
+        @Override
+        String value() {
+            return "value";
+        }
+    },
+
+    NULL {
+        @Override
+        String value() {
+            return null;
+        }
+    },
+
+    ABSENT {
+        @Override
+        String value() {
+            return null;
+        }
+
+        @Override
+        Maybe<String> maybe() {
+            return Maybe.absent();
+        }
+
+        @Override
+        LegacyMaybe<String> legacy() {
+            return LegacyMaybe.absent();
+        }
+    };
+
+    abstract String value();
+
+    Maybe<String> maybe() {
+        return Maybe.of(value());
+    }
+
+    LegacyMaybe<String> legacy() {
+        return LegacyMaybe.of(value());
+    }
+
+    Optional<String> optional() {
+        return Optional.ofNullable(value());
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Measures {@link Maybe#lazy(java.util.function.Supplier)} against eager evaluation of an expensive lookup which is
+ * usually not used, and the cost of reading an already evaluated lazy instance.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LazyBenchmark {
+
+    private Maybe<String> eager;
+    private Maybe<String> evaluated;
+
+    @Setup
+    public void setup() {
+        eager     = lookup();
+        evaluated = Maybe.lazy(LazyBenchmark::lookup);
+        evaluated.isPresent();
+    }
+
+    private static Maybe<String> lookup() {
+        Blackhole.consumeCPU(200);
+        return Maybe.of("value");
+    }
+
+    @Benchmark
+    public Maybe<String> eagerUnused() {
+        return lookup();
+    }
+
+    @Benchmark
+    public Maybe<String> lazyUnused() {
+        return Maybe.lazy(LazyBenchmark::lookup).map(String::trim);
+    }
+
+    @Benchmark
+    public String lazyUsed() {
+        return Maybe.lazy(LazyBenchmark::lookup).get();
+    }
+
+    @Benchmark
+    public String eagerRead() {
+        return eager.get();
+    }
+
+    @Benchmark
+    public String lazyRead() {
+        return evaluated.get();
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A copy of the original single-class, flag-based {@code Maybe} implementation, kept as a baseline for benchmarks. Only
+ * the operations which are benchmarked are reproduced.
+ * 
+ * @author Zhenya Leonov
+ */
+final class LegacyMaybe<T> {
+
+    private static final LegacyMaybe<?> ABSENT = new LegacyMaybe<>();
+
+    private final T       value;
+    private final boolean isPresent;
+
+    private LegacyMaybe() {
+        value     = null;
+        isPresent = false;
+    }
+
+    private LegacyMaybe(final T value) {
+        this.value = value;
+        isPresent  = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> LegacyMaybe<T> absent() {
+        return (LegacyMaybe<T>) ABSENT;
+    }
+
+    static <T> LegacyMaybe<T> of(final T value) {
+        return new LegacyMaybe<>(value);
+    }
+
+    T defaultTo(final T defaultValue) {
+        return isPresent ? value : defaultValue;
+    }
+
+    LegacyMaybe<T> filter(final Predicate<? super T> predicate) {
+        requireNonNull(predicate, "predicate == null");
+        if (!isPresent)
+            return this;
+        else
+            return predicate.test(value) ? this : absent();
+    }
+
+    boolean isNull() {
+        return isPresent && value == null;
+    }
+
+    boolean isPresent() {
+        return isPresent;
+    }
+
+    <U> LegacyMaybe<U> map(final Function<? super T, ? extends U> function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? LegacyMaybe.of(function.apply(value)) : absent();
+    }
+
+    Stream<T> stream() {
+        return isPresent ? Stream.of(value) : Stream.empty();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+
+        final LegacyMaybe<?> other = (LegacyMaybe<?>) obj;
+
+        return isPresent == other.isPresent && Objects.equals(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isPresent, value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s", "Maybe", isPresent() ? value + "]" : "]");
+    }
+
+}
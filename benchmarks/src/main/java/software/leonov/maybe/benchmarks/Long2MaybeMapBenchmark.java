@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import software.leonov.maybe.Long2MaybeMap;
+import software.leonov.maybe.Maybe;
+import software.leonov.maybe.MaybeArray;
+
+/**
+ * Compares {@link Long2MaybeMap#get(long)} against {@link Maybe#get(Map, Object)} over a {@link HashMap} with boxed
+ * {@code Long} keys, for single lookups and for a batch of {@value #BATCH} lookups. Run with {@code -prof gc} to
+ * compare allocation.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class Long2MaybeMapBenchmark {
+
+    static final int BATCH = 64;
+
+    @Param({ "1024", "1048576" })
+    public int size;
+
+    private HashMap<Long, String> hashMap;
+    private Long2MaybeMap<String> longMap;
+    private long[]                keys;
+    private long[]                batch;
+    private int                   index;
+
+    @Setup
+    public void setup() {
+        hashMap = new HashMap<>();
+        longMap = new Long2MaybeMap<>();
+        keys    = new long[size];
+        batch   = new long[BATCH];
+
+        final Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            final long   key   = random.nextLong();
+            final String value = i % 8 == 0 ? null : "value" + i;
+            hashMap.put(key, value);
+            longMap.put(key, value);
+            // every other lookup misses
+            keys[i] = i % 2 == 0 ? key : random.nextLong();
+        }
+    }
+
+    private long nextKey() {
+        return keys[index++ & (size - 1)];
+    }
+
+    @Benchmark
+    public Maybe<String> hashMapMaybeGet() {
+        return Maybe.get(hashMap, nextKey());
+    }
+
+    @Benchmark
+    public Maybe<String> long2MaybeMapGet() {
+        return longMap.get(nextKey());
+    }
+
+    @Benchmark
+    public void hashMapMaybeGetBatch(final Blackhole bh) {
+        for (int i = 0; i < BATCH; i++)
+            bh.consume(Maybe.get(hashMap, nextKey()));
+    }
+
+    @Benchmark
+    public MaybeArray<String> long2MaybeMapGetAll() {
+        for (int i = 0; i < BATCH; i++)
+            batch[i] = nextKey();
+        return longMap.getAll(batch);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Measures {@link Maybe#get(Map, Object)} against {@code Optional.ofNullable(map.get(key))} and the hand-written
+ * {@code containsKey} + {@code get} idiom.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapLookupBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({ "HashMap", "ConcurrentHashMap", "TreeMap" })
+    public String type;
+
+    @Param({ "hit", "miss" })
+    public String lookup;
+
+    private Map<String, String> map;
+    private String[]            keys;
+    private int                 index;
+
+    @Setup
+    public void setup() {
+        switch (type) {
+        case "HashMap":
+            map = new HashMap<>();
+            break;
+        case "ConcurrentHashMap":
+            map = new ConcurrentHashMap<>();
+            break;
+        case "TreeMap":
+            map = new TreeMap<>();
+            break;
+        default:
+            throw new IllegalArgumentException(type);
+        }
+
+        keys = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            map.put("key" + i, "value" + i);
+            keys[i] = lookup.equals("hit") ? "key" + i : "missing" + i;
+        }
+    }
+
+    private String nextKey() {
+        return keys[index++ & (SIZE - 1)];
+    }
+
+    @Benchmark
+    public Maybe<String> maybeGet() {
+        return Maybe.get(map, nextKey());
+    }
+
+    @Benchmark
+    public Optional<String> optionalGet() {
+        return Optional.ofNullable(map.get(nextKey()));
+    }
+
+    @Benchmark
+    public String nullCheckContainsKeyGet() {
+        final String key = nextKey();
+        return map.containsKey(key) ? map.get(key) : "absent";
+    }
+
+    @Benchmark
+    public String nullCheckGet() {
+        return map.get(nextKey());
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import software.leonov.maybe.Maybe;
+import software.leonov.maybe.MaybeCache;
+import software.leonov.maybe.MaybeLoader;
+
+/**
+ * Measures a {@link MaybeCache} in front of a backend whose lookups cost about a microsecond and which has no value for
+ * 80% of the keys, with and without caching of absent results, against calling the backend directly.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MaybeCacheBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final MaybeLoader<Integer, String> BACKEND = key -> {
+        Blackhole.consumeCPU(1000);
+        return key % 5 == 0 ? Maybe.of("value" + key) : Maybe.absent();
+    };
+
+    private MaybeCache<Integer, String> negativeCache;
+    private MaybeCache<Integer, String> positiveCache;
+    private Integer[]                   keys;
+    private int                         index;
+
+    @Setup
+    public void setup() {
+        negativeCache = MaybeCache.builder().maximumSize(2 * SIZE).build(BACKEND);
+        positiveCache = MaybeCache.builder().maximumSize(2 * SIZE).expireAbsentAfterWrite(Duration.ZERO).build(BACKEND);
+        keys          = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            keys[i] = i;
+    }
+
+    private Integer nextKey() {
+        return keys[index++ & (SIZE - 1)];
+    }
+
+    @Benchmark
+    public Maybe<String> backend() {
+        return BACKEND.load(nextKey());
+    }
+
+    @Benchmark
+    public Maybe<String> cacheAllStates() {
+        return negativeCache.get(nextKey());
+    }
+
+    @Benchmark
+    public Maybe<String> cacheValuesOnly() {
+        return positiveCache.get(nextKey());
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+import software.leonov.maybe.MaybeCollectors;
+
+/**
+ * Compares {@link MaybeCollectors} against the equivalent {@link Collectors} pipelines, sequentially and in parallel.
+ * Parallel results are only meaningful on a machine with several cores.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MaybeCollectorsBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean parallel;
+
+    private List<Maybe<Integer>> maybes;
+
+    @Setup
+    public void setup() {
+        maybes = new ArrayList<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < 1_000_000; i++) {
+            final int r = random.nextInt(8);
+            maybes.add(r < 2 ? Maybe.absent() : r == 2 ? Maybe.of(null) : Maybe.of(random.nextInt(100)));
+        }
+    }
+
+    @Benchmark
+    public Map<MaybeCollectors.State, Long> countingByState() {
+        return (parallel ? maybes.parallelStream() : maybes.stream()).collect(MaybeCollectors.countingByState());
+    }
+
+    @Benchmark
+    public Map<MaybeCollectors.State, Long> groupingByCounting() {
+        return (parallel ? maybes.parallelStream() : maybes.stream())
+                .collect(Collectors.groupingBy(MaybeCollectors.State::of, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Maybe<Integer> reducing() {
+        return (parallel ? maybes.parallelStream() : maybes.stream())
+                .collect(MaybeCollectors.reducing((a, b) -> a == null ? b : b == null ? a : a + b));
+    }
+
+    @Benchmark
+    public Integer filterMapReduce() {
+        return (parallel ? maybes.parallelStream() : maybes.stream()).filter(m -> m.isPresent() && !m.isNull())
+                .map(Maybe::get).reduce(0, Integer::sum);
+    }
+
+}
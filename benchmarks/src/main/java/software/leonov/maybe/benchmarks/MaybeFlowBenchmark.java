@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+import software.leonov.maybe.MaybeFlow;
+
+/**
+ * Compares {@link MaybeFlow#filterPresent()}, which batches upstream demand, against a processor which issues a
+ * {@code request(1)} per element. The upstream is a synchronous publisher which accounts for demand atomically, as
+ * thread-safe publishers must.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MaybeFlowBenchmark {
+
+    @Param({ "100000" })
+    private int size;
+
+    private Maybe<Integer>[] elements;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        elements = new Maybe[size];
+        for (int i = 0; i < size; i++)
+            elements[i] = i % 2 == 0 ? Maybe.absent() : Maybe.of(i);
+    }
+
+    @Benchmark
+    public long filterPresent() {
+        return run(MaybeFlow.filterPresent());
+    }
+
+    @Benchmark
+    public long requestOne() {
+        return run(new RequestOneFilter());
+    }
+
+    private long run(final Flow.Processor<Maybe<Integer>, Maybe<Integer>> processor) {
+        final Counter counter = new Counter();
+        processor.subscribe(counter);
+        new ArrayPublisher(elements).subscribe(processor);
+        return counter.count;
+    }
+
+    private static final class ArrayPublisher implements Flow.Publisher<Maybe<Integer>> {
+
+        private final Maybe<Integer>[] elements;
+
+        private ArrayPublisher(final Maybe<Integer>[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super Maybe<Integer>> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                private final AtomicLong    requested = new AtomicLong();
+                private final AtomicInteger wip       = new AtomicInteger();
+                private int                 index;
+                private volatile boolean    cancelled;
+
+                @Override
+                public void request(final long n) {
+                    requested.addAndGet(n);
+                    if (wip.getAndIncrement() != 0)
+                        return;
+                    int missed = 1;
+                    do {
+                        long r = requested.get();
+                        while (r > 0 && index < elements.length && !cancelled) {
+                            subscriber.onNext(elements[index++]);
+                            r = requested.decrementAndGet();
+                        }
+                        if (index == elements.length && !cancelled) {
+                            cancelled = true;
+                            subscriber.onComplete();
+                        }
+                    } while ((missed = wip.addAndGet(-missed)) != 0);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+
+            });
+        }
+
+    }
+
+    private static final class RequestOneFilter implements Flow.Processor<Maybe<Integer>, Maybe<Integer>> {
+
+        private Flow.Subscription                        upstream;
+        private Flow.Subscriber<? super Maybe<Integer>> downstream;
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super Maybe<Integer>> subscriber) {
+            downstream = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                    upstream.cancel();
+                }
+
+            });
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            upstream = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(final Maybe<Integer> item) {
+            if (item.isPresent())
+                downstream.onNext(item);
+            upstream.request(1);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            downstream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+
+    }
+
+    private static final class Counter implements Flow.Subscriber<Maybe<Integer>> {
+
+        private long count;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(final Maybe<Integer> item) {
+            count++;
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+    }
+
+}
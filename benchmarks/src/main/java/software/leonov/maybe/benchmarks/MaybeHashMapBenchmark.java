@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+import software.leonov.maybe.MaybeHashMap;
+
+/**
+ * Compares {@link MaybeHashMap#getMaybe(Object)} against {@link Maybe#get(Map, Object)} over a {@link HashMap}. Run
+ * with {@code -prof gc} to compare allocation, and see {@code MaybeHashMapTest} for the footprint comparison.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MaybeHashMapBenchmark {
+
+    @Param({ "1024", "1048576" })
+    public int size;
+
+    @Param({ "hit", "miss" })
+    public String lookup;
+
+    private HashMap<String, String>      hashMap;
+    private MaybeHashMap<String, String> maybeMap;
+    private String[]                     keys;
+    private int                          index;
+
+    @Setup
+    public void setup() {
+        hashMap  = new HashMap<>();
+        maybeMap = new MaybeHashMap<>();
+        keys     = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            final String value = i % 8 == 0 ? null : "value" + i;
+            hashMap.put("key" + i, value);
+            maybeMap.put("key" + i, value);
+            keys[i] = lookup.equals("hit") ? "key" + i : "missing" + i;
+        }
+
+        // look keys up in random order, since HashMap entries allocated and visited in insertion order are
+        // unrealistically cache friendly
+        final Random random = new Random(42);
+        for (int i = size - 1; i > 0; i--) {
+            final int    j   = random.nextInt(i + 1);
+            final String key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+        }
+    }
+
+    private String nextKey() {
+        return keys[index++ & (size - 1)];
+    }
+
+    @Benchmark
+    public Maybe<String> hashMapMaybeGet() {
+        return Maybe.get(hashMap, nextKey());
+    }
+
+    @Benchmark
+    public Maybe<String> maybeHashMapGetMaybe() {
+        return maybeMap.getMaybe(nextKey());
+    }
+
+}
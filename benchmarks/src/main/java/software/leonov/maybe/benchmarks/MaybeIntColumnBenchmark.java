@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+import software.leonov.maybe.MaybeIntColumn;
+
+/**
+ * Compares scanning the values of a {@link MaybeIntColumn} against a {@code List<Maybe<Integer>>} holding the same
+ * rows, a quarter of which are absent and an eighth {@code null}.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MaybeIntColumnBenchmark {
+
+    @Param({ "1048576" })
+    public int size;
+
+    private List<Maybe<Integer>> list;
+    private MaybeIntColumn       column;
+    private long                 sum;
+
+    @Setup
+    public void setup() {
+        list   = new ArrayList<>(size);
+        column = new MaybeIntColumn(size);
+
+        final Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            final int r = random.nextInt(8);
+            if (r < 2) {
+                list.add(Maybe.absent());
+                column.appendAbsent(1);
+            } else if (r == 2) {
+                list.add(Maybe.of(null));
+                column.appendNull();
+            } else {
+                final int value = random.nextInt();
+                list.add(Maybe.of(value));
+                column.append(value);
+            }
+        }
+    }
+
+    @Benchmark
+    public long listSum() {
+        long sum = 0;
+        for (final Maybe<Integer> maybe : list)
+            if (maybe.isPresent() && !maybe.isNull())
+                sum += maybe.get();
+        return sum;
+    }
+
+    @Benchmark
+    public long columnSum() {
+        sum = 0;
+        column.forEachValue(value -> sum += value);
+        return sum;
+    }
+
+    @Benchmark
+    public long columnCountValues() {
+        return column.countValues();
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Measures the cost of an absent value used as a control-flow miss: {@link Maybe#get()} and
+ * {@link Maybe#orElseThrow(java.util.function.Supplier)}, which construct a new exception with a full stack trace,
+ * against {@link Maybe#getOrFail()} and {@link Maybe#orElseFail(Throwable)}, which throw a preallocated stackless
+ * instance.
+ * <p>
+ * The {@code deep} variants make the miss 32 frames below the {@code catch}, since the cost of filling in a stack trace
+ * grows with its depth.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MissBenchmark {
+
+    private static final int DEPTH = 32;
+
+    private static final IllegalStateException CACHED = new IllegalStateException("miss") {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    };
+
+    private final Maybe<String> absent = Maybe.absent();
+
+    private String get(final int depth) {
+        return depth == 0 ? absent.get() : get(depth - 1);
+    }
+
+    private String getOrFail(final int depth) {
+        return depth == 0 ? absent.getOrFail() : getOrFail(depth - 1);
+    }
+
+    @Benchmark
+    public String get() {
+        try {
+            return absent.get();
+        } catch (final NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String getDeep() {
+        try {
+            return get(DEPTH);
+        } catch (final NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String getOrFail() {
+        try {
+            return absent.getOrFail();
+        } catch (final NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String getOrFailDeep() {
+        try {
+            return getOrFail(DEPTH);
+        } catch (final NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String orElseFail() {
+        try {
+            return absent.orElseFail(CACHED);
+        } catch (final IllegalStateException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String orElseThrowSupplier() {
+        try {
+            return absent.orElseThrow(IllegalStateException::new);
+        } catch (final IllegalStateException e) {
+            return null;
+        }
+    }
+
+}
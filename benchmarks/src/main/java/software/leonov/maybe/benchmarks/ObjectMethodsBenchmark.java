@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Measures {@link Maybe#equals(Object)}, {@link Maybe#hashCode()} and {@link Maybe#toString()}, including the original
+ * flag-based implementation ({@link LegacyMaybe}) for comparison.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ObjectMethodsBenchmark {
+
+    @Param({ "PRESENT", "NULL", "ABSENT" })
+    public Kind kind;
+
+    private Maybe<String>       maybe;
+    private Maybe<String>       otherMaybe;
+    private LegacyMaybe<String> legacy;
+    private LegacyMaybe<String> otherLegacy;
+    private Optional<String>    optional;
+    private Optional<String>    otherOptional;
+    private String              value;
+    private String              otherValue;
+
+    @Setup
+    public void setup() {
+        maybe         = kind.maybe();
+        optional      = kind.optional();
+        value         = kind.value();
+        // distinct but equal instances so that equals cannot short-circuit on identity
+        otherValue    = value == null ? null : new String(value);
+        otherMaybe    = kind == Kind.ABSENT ? Maybe.absent() : Maybe.of(otherValue);
+        otherOptional = Optional.ofNullable(otherValue);
+        legacy        = kind.legacy();
+        otherLegacy   = kind == Kind.ABSENT ? LegacyMaybe.absent() : LegacyMaybe.of(otherValue);
+    }
+
+    @Benchmark
+    public boolean maybeEquals() {
+        return maybe.equals(otherMaybe);
+    }
+
+    @Benchmark
+    public boolean legacyEquals() {
+        return legacy.equals(otherLegacy);
+    }
+
+    @Benchmark
+    public boolean optionalEquals() {
+        return optional.equals(otherOptional);
+    }
+
+    @Benchmark
+    public boolean nullCheckEquals() {
+        return Objects.equals(value, otherValue);
+    }
+
+    @Benchmark
+    public int maybeHashCode() {
+        return maybe.hashCode();
+    }
+
+    @Benchmark
+    public int legacyHashCode() {
+        return legacy.hashCode();
+    }
+
+    @Benchmark
+    public int optionalHashCode() {
+        return optional.hashCode();
+    }
+
+    @Benchmark
+    public int nullCheckHashCode() {
+        return Objects.hashCode(value);
+    }
+
+    @Benchmark
+    public String maybeToString() {
+        return maybe.toString();
+    }
+
+    @Benchmark
+    public String legacyToString() {
+        return legacy.toString();
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+import software.leonov.maybe.MaybePipeline;
+
+/**
+ * Compares a {@code map/filter/map/defaultTo} chain of {@link Maybe} calls against the equivalent precomposed
+ * {@link MaybePipeline}, over a batch of inputs in all three states. Run with {@code -prof gc} to compare allocation
+ * rates.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PipelineBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final MaybePipeline<String, Integer> PIPELINE = MaybePipeline.<String>identity()
+            .ifNull(Maybe.of("")).map(String::length).filter(n -> n > 2).map(n -> n * 31 + 7);
+
+    private Maybe<String>[] inputs;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        inputs = new Maybe[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            inputs[i] = i % 8 == 0 ? Maybe.absent() : i % 8 == 1 ? Maybe.of(null) : Maybe.of("value" + i);
+    }
+
+    @Benchmark
+    public long chain() {
+        long sum = 0;
+        for (final Maybe<String> input : inputs)
+            sum += input.ifNull(Maybe.of("")).map(String::length).filter(n -> n > 2).map(n -> n * 31 + 7).defaultTo(0);
+        return sum;
+    }
+
+    @Benchmark
+    public long pipeline() {
+        long sum = 0;
+        for (final Maybe<String> input : inputs)
+            sum += PIPELINE.defaultTo(input, 0);
+        return sum;
+    }
+
+}
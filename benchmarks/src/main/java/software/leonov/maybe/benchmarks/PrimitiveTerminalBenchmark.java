@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Measures extracting a primitive from a present {@link Maybe}: {@code map(...).defaultTo(0)}, which boxes the
+ * intermediate {@code Integer} and allocates a {@code Maybe<Integer>}, {@code mapToInt(...).defaultTo(0)}, and
+ * {@link Maybe#defaultToInt(java.util.function.ToIntFunction, int)}. The string is long enough that its length is not
+ * in the {@code Integer} cache.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitiveTerminalBenchmark {
+
+    private Maybe<String> present;
+
+    @Setup
+    public void setup() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+            sb.append('x');
+        present = Maybe.of(sb.toString());
+    }
+
+    @Benchmark
+    public int defaultToInt() {
+        return present.defaultToInt(String::length, 0);
+    }
+
+    @Benchmark
+    public int mapDefaultTo() {
+        return present.map(String::length).defaultTo(0);
+    }
+
+    @Benchmark
+    public int mapToIntDefaultTo() {
+        return present.mapToInt(String::length).defaultTo(0);
+    }
+
+}
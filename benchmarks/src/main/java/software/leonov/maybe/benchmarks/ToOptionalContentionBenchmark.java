@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Measures {@link Maybe#toOptional()}, {@link Maybe#equals(Object)} and {@link Maybe#hashCode()} on a single instance
+ * shared by all benchmark threads, and conversions of the shared {@link Maybe#absent() absent} instance.
+ * <p>
+ * Run with an increasing thread count to check scaling, for example:
+ * 
+ * <pre>{@code
+ * java -jar target/benchmarks.jar ToOptionalContentionBenchmark -t 1
+ * java -jar target/benchmarks.jar ToOptionalContentionBenchmark -t 8
+ * }</pre>
+ * 
+ * Throughput should grow linearly with the number of threads.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(2)
+public class ToOptionalContentionBenchmark {
+
+    @Param({ "PRESENT", "NULL", "ABSENT" })
+    public Kind kind;
+
+    private Maybe<String> shared;
+    private Maybe<String> copy;
+
+    @Setup
+    public void setup() {
+        shared = kind.maybe();
+        copy   = kind.maybe();
+    }
+
+    @Benchmark
+    public Optional<String> absentToOptional() {
+        return Maybe.<String>absent().toOptional();
+    }
+
+    @Benchmark
+    public boolean sharedEquals() {
+        return shared.equals(copy);
+    }
+
+    @Benchmark
+    public int sharedHashCode() {
+        return shared.hashCode();
+    }
+
+    @Benchmark
+    public Optional<String> sharedToOptional() {
+        return shared.toOptional();
+    }
+
+}
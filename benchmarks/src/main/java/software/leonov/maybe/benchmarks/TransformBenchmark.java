@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Measures {@link Maybe#map(Function)}, {@link Maybe#filter(Predicate)}, {@link Maybe#defaultTo(Object)} and
+ * {@link Maybe#orElseGet(Supplier)}.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TransformBenchmark {
+
+    private static final Function<String, Integer> LENGTH    = s -> s == null ? 0 : s.length();
+    private static final Predicate<String>         NOT_EMPTY = s -> s != null && !s.isEmpty();
+    private static final Supplier<String>          DEFAULT   = () -> "default";
+
+    @Param({ "PRESENT", "NULL", "ABSENT" })
+    public Kind kind;
+
+    private Maybe<String>    maybe;
+    private Optional<String> optional;
+    private String           value;
+
+    @Setup
+    public void setup() {
+        maybe    = kind.maybe();
+        optional = kind.optional();
+        value    = kind.value();
+    }
+
+    @Benchmark
+    public Maybe<Integer> maybeMap() {
+        return maybe.map(LENGTH);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMap() {
+        return optional.map(LENGTH);
+    }
+
+    @Benchmark
+    public Integer nullCheckMap() {
+        return value != null ? value.length() : null;
+    }
+
+    @Benchmark
+    public Maybe<String> maybeFilter() {
+        return maybe.filter(NOT_EMPTY);
+    }
+
+    @Benchmark
+    public Optional<String> optionalFilter() {
+        return optional.filter(NOT_EMPTY);
+    }
+
+    @Benchmark
+    public String nullCheckFilter() {
+        return value != null && !value.isEmpty() ? value : null;
+    }
+
+    @Benchmark
+    public String maybeDefaultTo() {
+        return maybe.defaultTo("default");
+    }
+
+    @Benchmark
+    public String optionalOrElse() {
+        return optional.orElse("default");
+    }
+
+    @Benchmark
+    public String nullCheckDefault() {
+        return value != null ? value : "default";
+    }
+
+    @Benchmark
+    public String maybeOrElseGet() {
+        return maybe.orElseGet(DEFAULT);
+    }
+
+    @Benchmark
+    public String optionalOrElseGet() {
+        return optional.orElseGet(DEFAULT);
+    }
+
+    @Benchmark
+    public String nullCheckElseGet() {
+        return value != null ? value : DEFAULT.get();
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Measures combining three {@link Maybe} instances with
+ * {@link Maybe#zip(Maybe, Maybe, Maybe, software.leonov.maybe.Function3)} against nested {@code map} calls, which
+ * allocate intermediate instances and capturing lambdas. The length of {@code "a" + "b" + "value"} is in the
+ * {@code Integer} cache, so a present result of {@code zip} is shared as well.
+ * 
+ * @author Zhenya Leonov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ZipBenchmark {
+
+    @Param({ "PRESENT", "ABSENT" })
+    public Kind kind;
+
+    private Maybe<String> a;
+    private Maybe<String> b;
+    private Maybe<String> c;
+
+    @Setup
+    public void setup() {
+        a = Maybe.of("a");
+        b = Maybe.of("b");
+        c = kind.maybe();
+    }
+
+    private static int combine(final String a, final String b, final String c) {
+        return a.length() + b.length() + c.length();
+    }
+
+    @Benchmark
+    public Maybe<Integer> nestedMap() {
+        return a.map(x -> b.map(y -> c.map(z -> combine(x, y, z))).defaultTo(Maybe.absent())).defaultTo(Maybe.absent());
+    }
+
+    @Benchmark
+    public Maybe<Integer> zip() {
+        return Maybe.zip(a, b, c, ZipBenchmark::combine);
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * JMH benchmarks comparing {@link software.leonov.maybe.Maybe} against {@link java.util.Optional} and hand-written
+ * {@code null} checks.
+ * <p>
+ * Build and run from the {@code benchmarks} directory:
+ * 
+ * <pre>{@code
+ * mvn -f ../pom.xml install -Dmaven.javadoc.skip=true
+ * mvn package
+ * java -jar target/benchmarks.jar -prof gc -rf json -rff results.json
+ * }</pre>
+ * 
+ * Every benchmark is reported in both throughput and average time modes. The {@code -prof gc} profiler adds the
+ * allocation rate ({@code gc.alloc.rate.norm}, bytes per operation) to each result.
+ */
+package software.leonov.maybe.benchmarks;
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import java.util.function.BiFunction;
+
+/**
+ * A function which accepts four arguments and produces a result. This is the four-arity specialization of
+ * {@link BiFunction}, used by {@link Maybe#zip} and {@link Maybe#combineNullable}.
+ * 
+ * @param <A> the type of the first argument to the function
+ * @param <B> the type of the second argument to the function
+ * @param <C> the type of the third argument to the function
+ * @param <D> the type of the fourth argument to the function
+ * @param <R> the type of the result of the function
+ * 
+ * @author Zhenya Leonov
+ */
+@FunctionalInterface
+public interface Function4<A, B, C, D, R> {
+
+    /**
+     * Applies this function to the given arguments.
+     * 
+     * @param a the first function argument
+     * @param b the second function argument
+     * @param c the third function argument
+     * @param d the fourth function argument
+     * @return the function result
+     */
+    R apply(A a, B b, C c, D d);
+
+}
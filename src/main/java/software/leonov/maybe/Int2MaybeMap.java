@@ -0,0 +1,354 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A hash table which maps primitive {@code int} keys to possibly {@code null} values and returns lookups as
+ * {@link Maybe} instances, without boxing keys or allocating an entry object for every mapping. A key which is mapped
+ * to {@code null} is told apart from a key which is not in the map at all.
+ * <p>
+ * This map uses open addressing with linear probing over a key array and a parallel value array. The state of each
+ * slot is encoded in the value array alone: a free slot holds {@code null}, a removed mapping holds a tombstone, and a
+ * mapping to {@code null} holds a private marker. Every {@code int}, including {@code 0}, is therefore a valid key and
+ * no sentinel key is reserved.
+ * <p>
+ * This class is not synchronized.
+ * 
+ * @param <V> the type of mapped values
+ * 
+ * @author Zhenya Leonov
+ */
+public final class Int2MaybeMap<V> {
+
+    // marks the value slot of a removed mapping
+    private static final Object TOMBSTONE = new Object();
+
+    // stands in for a null value
+    private static final Object NULL_VALUE = new Object();
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // a null value slot is free
+    private int[]    keys;
+    private Object[] values;
+    private int      size;
+    private int      tombstones;
+    private int      modCount;
+
+    /**
+     * Creates a new empty {@link Int2MaybeMap}.
+     */
+    public Int2MaybeMap() {
+        keys   = new int[DEFAULT_CAPACITY];
+        values = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a new empty {@link Int2MaybeMap} which can hold the specified number of mappings without resizing.
+     * 
+     * @param expectedSize the expected number of mappings
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public Int2MaybeMap(final int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("expectedSize < 0");
+        final int capacity = capacityFor(expectedSize);
+        keys   = new int[capacity];
+        values = new Object[capacity];
+    }
+
+    /**
+     * Returns the number of mappings in this map.
+     * 
+     * @return the number of mappings in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this map contains no mappings.
+     * 
+     * @return {@code true} if this map contains no mappings
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key, even if it is mapped to {@code null}.
+     * 
+     * @param key the specified key
+     * @return {@code true} if this map contains a mapping for the specified key
+     */
+    public boolean containsKey(final int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns a {@link Maybe} instance containing the possibly {@code null} value to which the specified key is mapped
+     * or an {@link Maybe#absent() absent} instance if this map contains no mapping for the key.
+     * 
+     * @param key the key whose associated value is to be returned
+     * @return a {@link Maybe} instance containing the possibly {@code null} value to which the specified key is mapped
+     *         or an {@link Maybe#absent() absent} instance if this map contains no mapping for the key
+     */
+    public Maybe<V> get(final int key) {
+        final int i = indexOf(key);
+        return i < 0 ? Maybe.absent() : valueAt(i);
+    }
+
+    /**
+     * Looks up each of the specified keys and returns the results in the same order. The backing arrays are read once
+     * per key and the values are copied into the result without boxing the keys or creating a {@link Maybe} instance
+     * per value.
+     * 
+     * @param keys the keys whose associated values are to be returned
+     * @return a {@link MaybeArray} of the same length as {@code keys} whose elements are the results of looking up the
+     *         corresponding keys, as if by {@link #get(int)}
+     */
+    @SuppressWarnings("unchecked")
+    public MaybeArray<V> getAll(final int... keys) {
+        requireNonNull(keys, "keys == null");
+        final MaybeArray<V> results = new MaybeArray<>(keys.length);
+        for (int j = 0; j < keys.length; j++) {
+            final int i = indexOf(keys[j]);
+            if (i >= 0)
+                results.set(j, (V) unmaskNull(values[i]));
+        }
+        return results;
+    }
+
+    /**
+     * Associates the specified value with the specified key, replacing any previous mapping.
+     * 
+     * @param key   the key with which the specified value is to be associated
+     * @param value the possibly {@code null} value to be associated with the specified key
+     * @return a {@link Maybe} instance containing the possibly {@code null} value previously mapped to the key or an
+     *         {@link Maybe#absent() absent} instance if there was no mapping for the key
+     */
+    public Maybe<V> put(final int key, final V value) {
+        final int i = probe(key);
+        if (i >= 0) {
+            final Maybe<V> previous = valueAt(i);
+            values[i] = maskNull(value);
+            return previous;
+        }
+        insert(~i, key, value);
+        return Maybe.absent();
+    }
+
+    /**
+     * Associates the specified value with the specified key if the key is not already in this map. A key which is
+     * mapped to {@code null} is considered to be in the map.
+     * 
+     * @param key   the key with which the specified value is to be associated
+     * @param value the possibly {@code null} value to be associated with the specified key
+     * @return a {@link Maybe} instance containing the possibly {@code null} value already mapped to the key or an
+     *         {@link Maybe#absent() absent} instance if the specified value was added
+     */
+    public Maybe<V> putIfAbsent(final int key, final V value) {
+        final int i = probe(key);
+        if (i >= 0)
+            return valueAt(i);
+        insert(~i, key, value);
+        return Maybe.absent();
+    }
+
+    /**
+     * Removes the mapping for the specified key from this map if present.
+     * 
+     * @param key the key whose mapping is to be removed
+     * @return a {@link Maybe} instance containing the possibly {@code null} value previously mapped to the key or an
+     *         {@link Maybe#absent() absent} instance if there was no mapping for the key
+     */
+    public Maybe<V> remove(final int key) {
+        final int i = indexOf(key);
+        if (i < 0)
+            return Maybe.absent();
+        final Maybe<V> previous = valueAt(i);
+        delete(i);
+        return previous;
+    }
+
+    /**
+     * Removes all of the mappings from this map.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size       = 0;
+        tombstones = 0;
+        modCount++;
+    }
+
+    /**
+     * Performs the specified action for each mapping in this map, in no particular order.
+     * 
+     * @param action the action to perform, which receives the possibly {@code null} value and its key
+     * @throws ConcurrentModificationException if the action modifies this map
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final ObjIntConsumer<? super V> action) {
+        requireNonNull(action, "action == null");
+        final int[]    ks       = keys;
+        final Object[] vs       = values;
+        final int      expected = modCount;
+        for (int i = 0; i < vs.length; i++)
+            if (isLive(vs[i]))
+                action.accept((V) unmaskNull(vs[i]), ks[i]);
+        if (modCount != expected)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(size * 8 + 2).append('{');
+        forEach((value, key) -> {
+            if (sb.length() > 1)
+                sb.append(", ");
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    private static Object maskNull(final Object value) {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    private static Object unmaskNull(final Object value) {
+        return value == NULL_VALUE ? null : value;
+    }
+
+    private static boolean isLive(final Object value) {
+        return value != null && value != TOMBSTONE;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        // keep the table at most half full
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < MAXIMUM_CAPACITY && capacity / 2 < expectedSize)
+            capacity <<= 1;
+        return capacity;
+    }
+
+    // Fibonacci hashing: the well mixed high bits of the product pick the first probe position
+    private static int start(final int key, final int capacity) {
+        return (key * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(capacity - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Maybe<V> valueAt(final int i) {
+        return Maybe.of((V) unmaskNull(values[i]));
+    }
+
+    // returns the index of the slot holding the specified key, or -1
+    private int indexOf(final int key) {
+        final int[]    ks = keys;
+        final Object[] vs = values;
+        final int      m  = vs.length - 1;
+
+        for (int i = start(key, vs.length);; i = (i + 1) & m) {
+            final Object value = vs[i];
+            if (value == null)
+                return -1;
+            if (ks[i] == key && value != TOMBSTONE)
+                return i;
+        }
+    }
+
+    // returns the index of the slot holding the specified key, or the complement of the slot to insert it at
+    private int probe(final int key) {
+        final int[]    ks        = keys;
+        final Object[] vs        = values;
+        final int      m         = vs.length - 1;
+        int            tombstone = -1;
+
+        for (int i = start(key, vs.length);; i = (i + 1) & m) {
+            final Object value = vs[i];
+            if (value == null)
+                return ~(tombstone < 0 ? i : tombstone);
+            if (value == TOMBSTONE) {
+                if (tombstone < 0)
+                    tombstone = i;
+            } else if (ks[i] == key)
+                return i;
+        }
+    }
+
+    private void insert(final int i, final int key, final Object value) {
+        if (values[i] == TOMBSTONE)
+            tombstones--;
+        keys[i]   = key;
+        values[i] = maskNull(value);
+        size++;
+        modCount++;
+        if (size + tombstones > values.length / 2)
+            rehash();
+    }
+
+    private void delete(final int i) {
+        final Object[] vs = values;
+        // a slot followed by a free slot cannot be on any other key's probe path
+        if (vs[(i + 1) & (vs.length - 1)] == null)
+            vs[i] = null;
+        else {
+            vs[i] = TOMBSTONE;
+            tombstones++;
+        }
+        size--;
+        modCount++;
+    }
+
+    private void rehash() {
+        final int[]    oldKeys     = keys;
+        final Object[] oldValues   = values;
+        final int      oldCapacity = oldValues.length;
+        final int      capacity;
+
+        // grow unless most of the occupied slots are tombstones
+        if (size < oldCapacity / 4)
+            capacity = oldCapacity;
+        else if (oldCapacity < MAXIMUM_CAPACITY)
+            capacity = oldCapacity * 2;
+        else
+            throw new IllegalStateException("maximum capacity exceeded");
+
+        final int[]    ks = new int[capacity];
+        final Object[] vs = new Object[capacity];
+        final int      m  = capacity - 1;
+
+        for (int j = 0; j < oldCapacity; j++)
+            if (isLive(oldValues[j])) {
+                int i = start(oldKeys[j], capacity);
+                while (vs[i] != null)
+                    i = (i + 1) & m;
+                ks[i] = oldKeys[j];
+                vs[i] = oldValues[j];
+            }
+
+        keys       = ks;
+        values     = vs;
+        tombstones = 0;
+    }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Single-lookup strategies used by {@link Maybe#get(Map, Object)} and {@link Maybe#getAll(Map, Object...)} to tell an
+ * absent mapping apart from a mapping to {@code null}. The strategy is chosen once per map class and cached.
+ * 
+ * @author Zhenya Leonov
+ */
+enum MapLookup {
+
+    /**
+     * For maps which do not permit {@code null} values: a {@code null} result from {@link Map#get(Object)} can only mean
+     * there is no mapping. This is also the only race-free option for concurrent maps.
+     */
+    NULL_HOSTILE {
+        @Override
+        <V> Maybe<V> get(final Map<?, ? extends V> map, final Object key) {
+            final V value = map.get(key);
+            return value == null ? Maybe.absent() : Maybe.of(value);
+        }
+
+        @Override
+        <V> void getAll(final Map<?, ? extends V> map, final Object[] keys, final int from, final int to,
+                final MaybeArray<V> results) {
+            for (int i = from; i < to; i++) {
+                final V value = map.get(keys[i]);
+                if (value != null)
+                    results.set(i, value);
+            }
+        }
+    },
+
+    /**
+     * For {@link MaybeHashMap}s, which answer with a {@code Maybe} directly.
+     */
+    MAYBE_HASH_MAP {
+        @Override
+        @SuppressWarnings("unchecked")
+        <V> Maybe<V> get(final Map<?, ? extends V> map, final Object key) {
+            return ((MaybeHashMap<?, V>) map).getMaybe(key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <V> void getAll(final Map<?, ? extends V> map, final Object[] keys, final int from, final int to,
+                final MaybeArray<V> results) {
+            final MaybeHashMap<?, ?> m = (MaybeHashMap<?, ?>) map;
+            for (int i = from; i < to; i++) {
+                final Object value = m.getOrSentinel(keys[i], NO_MAPPING);
+                if (value != NO_MAPPING)
+                    results.set(i, (V) value);
+            }
+        }
+    },
+
+    /**
+     * For maps which do not override {@link Map#getOrDefault(Object, Object)} and have a cheap
+     * {@link Map#containsKey(Object)}: the second lookup is only performed when {@link Map#get(Object)} returns
+     * {@code null}.
+     */
+    GET_THEN_CONTAINS {
+        @Override
+        <V> Maybe<V> get(final Map<?, ? extends V> map, final Object key) {
+            final V value = map.get(key);
+            if (value != null)
+                return Maybe.of(value);
+            return map.containsKey(key) ? Maybe.of(null) : Maybe.absent();
+        }
+
+        @Override
+        <V> void getAll(final Map<?, ? extends V> map, final Object[] keys, final int from, final int to,
+                final MaybeArray<V> results) {
+            for (int i = from; i < to; i++) {
+                final V value = map.get(keys[i]);
+                if (value != null || map.containsKey(keys[i]))
+                    results.set(i, value);
+            }
+        }
+    },
+
+    /**
+     * The general case: a single {@link Map#getOrDefault(Object, Object)} call with a private sentinel as the default
+     * value.
+     */
+    SENTINEL {
+        @Override
+        @SuppressWarnings("unchecked")
+        <V> Maybe<V> get(final Map<?, ? extends V> map, final Object key) {
+            final Object value = ((Map<?, Object>) map).getOrDefault(key, NO_MAPPING);
+            return value == NO_MAPPING ? Maybe.absent() : Maybe.of((V) value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <V> void getAll(final Map<?, ? extends V> map, final Object[] keys, final int from, final int to,
+                final MaybeArray<V> results) {
+            final Map<?, Object> m = (Map<?, Object>) map;
+            for (int i = from; i < to; i++) {
+                final Object value = m.getOrDefault(keys[i], NO_MAPPING);
+                if (value != NO_MAPPING)
+                    results.set(i, (V) value);
+            }
+        }
+    };
+
+    // batches of at least this many keys against a concurrent map are split across the common pool
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // the smallest range looked up by a single task, a multiple of 64 so tasks never share a word of the bitmap
+    private static final int GRAIN = 1 << 12;
+
+    private static final Object NO_MAPPING = new Object();
+
+    private static final ClassValue<MapLookup> LOOKUPS = new ClassValue<MapLookup>() {
+        @Override
+        protected MapLookup computeValue(final Class<?> type) {
+            if (type == MaybeHashMap.class)
+                return MAYBE_HASH_MAP;
+            if (ConcurrentHashMap.class.isAssignableFrom(type) || ConcurrentSkipListMap.class.isAssignableFrom(type)
+                    || type.getName().startsWith("java.util.ImmutableCollections$"))
+                return NULL_HOSTILE;
+            if (EnumMap.class.isAssignableFrom(type) || IdentityHashMap.class.isAssignableFrom(type)
+                    || TreeMap.class.isAssignableFrom(type))
+                return GET_THEN_CONTAINS;
+            return SENTINEL;
+        }
+    };
+
+    /**
+     * Returns the lookup strategy for the specified map.
+     * 
+     * @param map the specified map
+     * @return the lookup strategy for the specified map
+     */
+    static MapLookup of(final Map<?, ?> map) {
+        return LOOKUPS.get(map.getClass());
+    }
+
+    /**
+     * Returns a {@link Maybe} instance containing the value mapped to the specified key or an {@link Maybe#absent()
+     * absent} instance if there is no such mapping.
+     * 
+     * @param <V> the type of values stored in the specified map
+     * @param map the specified map
+     * @param key the specified key
+     * @return a {@link Maybe} instance containing the value mapped to the specified key or an {@link Maybe#absent()
+     *         absent} instance if there is no such mapping
+     */
+    abstract <V> Maybe<V> get(Map<?, ? extends V> map, Object key);
+
+    /**
+     * Looks up each of the specified keys and returns the results in the same order. Lookups against concurrent maps
+     * with at least {@value #PARALLEL_THRESHOLD} keys are split across the {@link ForkJoinPool#commonPool() common
+     * pool}.
+     * 
+     * @param <V>  the type of values stored in the specified map
+     * @param map  the specified map
+     * @param keys the specified keys
+     * @return a {@link MaybeArray} whose elements are the results of looking up the corresponding keys
+     */
+    <V> MaybeArray<V> getAll(final Map<?, ? extends V> map, final Object[] keys) {
+        final MaybeArray<V> results = new MaybeArray<>(keys.length);
+        if (keys.length >= PARALLEL_THRESHOLD && map instanceof ConcurrentMap
+                && ForkJoinPool.getCommonPoolParallelism() > 1)
+            ForkJoinPool.commonPool().invoke(new BatchLookup<>(this, map, keys, 0, keys.length, results));
+        else
+            getAll(map, keys, 0, keys.length, results);
+        return results;
+    }
+
+    /**
+     * Looks up the keys in the specified range and stores the results at the same indices of the specified array.
+     * 
+     * @param <V>     the type of values stored in the specified map
+     * @param map     the specified map
+     * @param keys    the specified keys
+     * @param from    the index of the first key, inclusive
+     * @param to      the index of the last key, exclusive
+     * @param results the array which receives the results
+     */
+    <V> void getAll(final Map<?, ? extends V> map, final Object[] keys, final int from, final int to,
+            final MaybeArray<V> results) {
+        for (int i = from; i < to; i++) {
+            final Maybe<V> value = get(map, keys[i]);
+            if (value.isPresent())
+                results.set(i, value.orNull());
+        }
+    }
+
+    private static final class BatchLookup<V> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final MapLookup           lookup;
+        private final Map<?, ? extends V> map;
+        private final Object[]            keys;
+        private final int                 from;
+        private final int                 to;
+        private final MaybeArray<V>       results;
+
+        private BatchLookup(final MapLookup lookup, final Map<?, ? extends V> map, final Object[] keys, final int from,
+                final int to, final MaybeArray<V> results) {
+            this.lookup  = lookup;
+            this.map     = map;
+            this.keys    = keys;
+            this.from    = from;
+            this.to      = to;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GRAIN)
+                lookup.getAll(map, keys, from, to, results);
+            else {
+                final int mid = (from + to) >>> 1 & ~63;
+                invokeAll(new BatchLookup<>(lookup, map, keys, from, mid, results),
+                        new BatchLookup<>(lookup, map, keys, mid, to, results));
+            }
+        }
+
+    }
+
+}
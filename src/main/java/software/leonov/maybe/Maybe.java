@@ -17,15 +17,26 @@ package software.leonov.maybe;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A immutable container which may or may not hold a {@code nullable} value. This class is the analog of Java's
@@ -42,23 +53,51 @@ import java.util.stream.Stream;
  * 
  * @author Zhenya Leonov
  */
-public class Maybe<T> {
+public abstract class Maybe<T> {
 
-    private static final Maybe<?> ABSENT = new Maybe<>();
+    private static final Maybe<?> ABSENT = new Absent<>();
+    private static final Maybe<?> NULL   = new Null<>();
 
-    private final T       value;
-    private final boolean isPresent;
+    private static final Maybe<Boolean> TRUE  = new Present<>(Boolean.TRUE);
+    private static final Maybe<Boolean> FALSE = new Present<>(Boolean.FALSE);
 
-    private volatile Optional<T> optional;
+    private static final int          LOW      = -128;
+    private static final int          HIGH     = 127;
+    private static final Present<?>[] INTEGERS = new Present<?>[HIGH - LOW + 1];
 
-    private Maybe() {
-        value     = null;
-        isPresent = false;
+    static {
+        for (int i = 0; i < INTEGERS.length; i++)
+            INTEGERS[i] = new Present<>(Integer.valueOf(LOW + i));
     }
 
-    private Maybe(final T value) {
-        this.value = value;
-        isPresent  = true;
+    private static final Maybe<?>[] UNCACHED = new Maybe<?>[0];
+
+    // The cached instances strongly reference the enum constants and through them their class, which would keep an
+    // enum loaded by a child class loader (e.g. a web application or a plugin) from ever being unloaded. Only enums
+    // visible to the loader of this class are cached; other enums map to an empty array which references nothing.
+    private static final ClassValue<Maybe<?>[]> ENUMS = new ClassValue<Maybe<?>[]>() {
+        @Override
+        protected Maybe<?>[] computeValue(final Class<?> type) {
+            if (!isVisible(type.getClassLoader()))
+                return UNCACHED;
+            final Object[]   constants = type.getEnumConstants();
+            final Maybe<?>[] cache     = new Maybe<?>[constants.length];
+            for (int i = 0; i < constants.length; i++)
+                cache[i] = new Present<>(constants[i]);
+            return cache;
+        }
+    };
+
+    // the bootstrap loader, the loader of this class, or one of its ancestors
+    private static boolean isVisible(final ClassLoader loader) {
+        for (ClassLoader l = Maybe.class.getClassLoader(); l != null; l = l.getParent())
+            if (l == loader)
+                return true;
+        return loader == null;
+    }
+
+    // absent, null and present values are represented by the private subclasses at the bottom of this file
+    private Maybe() {
     }
 
     /**
@@ -71,6 +110,140 @@ public class Maybe<T> {
         return (Maybe<T>) ABSENT;
     }
 
+    /**
+     * Returns a {@link Maybe} instance combining {@code a} and {@code b} with the given {@code BiFunction}, where an
+     * {@link #absent() absent} instance takes precedence over a {@link #isNull() null} one:
+     * <ul>
+     * <li>if either instance is {@link #absent() absent} an {@link #absent() absent} instance is returned</li>
+     * <li>otherwise, if either value is {@code null} a {@link #isNull() null} instance is returned without calling the
+     * function</li>
+     * <li>otherwise the result of applying the function to both values is returned</li>
+     * </ul>
+     * The instances are checked in order and the first {@link #absent() absent} one short-circuits the rest. No
+     * intermediate {@code Maybe} instances are allocated.
+     * 
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <R>      the type of the result
+     * @param a        the first instance
+     * @param b        the second instance
+     * @param function the function to apply to the values
+     * @return an {@link #absent() absent} instance if any instance is absent, a {@link #isNull() null} instance if any
+     *         value is {@code null}, or a {@link Maybe} instance containing the result of the function otherwise
+     */
+    public static <A, B, R> Maybe<R> combineNullable(final Maybe<? extends A> a, final Maybe<? extends B> b,
+            final BiFunction<? super A, ? super B, ? extends R> function) {
+        requireNonNull(a, "a == null");
+        requireNonNull(b, "b == null");
+        requireNonNull(function, "function == null");
+        if (!a.isPresent() || !b.isPresent())
+            return absent();
+        if (a.isNull() || b.isNull())
+            return of(null);
+        return of(function.apply(a.get(), b.get()));
+    }
+
+    /**
+     * Returns a {@link Maybe} instance combining the specified instances with the given {@code Function3}: an
+     * {@link #absent() absent} instance if any of them is absent, otherwise a {@link #isNull() null} instance if any
+     * value is {@code null}, otherwise the result of applying the function to the values. See
+     * {@link #combineNullable(Maybe, Maybe, BiFunction)}.
+     * 
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @param <R>      the type of the result
+     * @param a        the first instance
+     * @param b        the second instance
+     * @param c        the third instance
+     * @param function the function to apply to the values
+     * @return an {@link #absent() absent} instance if any instance is absent, a {@link #isNull() null} instance if any
+     *         value is {@code null}, or a {@link Maybe} instance containing the result of the function otherwise
+     */
+    public static <A, B, C, R> Maybe<R> combineNullable(final Maybe<? extends A> a, final Maybe<? extends B> b,
+            final Maybe<? extends C> c, final Function3<? super A, ? super B, ? super C, ? extends R> function) {
+        requireNonNull(a, "a == null");
+        requireNonNull(b, "b == null");
+        requireNonNull(c, "c == null");
+        requireNonNull(function, "function == null");
+        if (!a.isPresent() || !b.isPresent() || !c.isPresent())
+            return absent();
+        if (a.isNull() || b.isNull() || c.isNull())
+            return of(null);
+        return of(function.apply(a.get(), b.get(), c.get()));
+    }
+
+    /**
+     * Returns a {@link Maybe} instance combining the specified instances with the given {@code Function4}: an
+     * {@link #absent() absent} instance if any of them is absent, otherwise a {@link #isNull() null} instance if any
+     * value is {@code null}, otherwise the result of applying the function to the values. See
+     * {@link #combineNullable(Maybe, Maybe, BiFunction)}.
+     * 
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @param <D>      the type of the fourth value
+     * @param <R>      the type of the result
+     * @param a        the first instance
+     * @param b        the second instance
+     * @param c        the third instance
+     * @param d        the fourth instance
+     * @param function the function to apply to the values
+     * @return an {@link #absent() absent} instance if any instance is absent, a {@link #isNull() null} instance if any
+     *         value is {@code null}, or a {@link Maybe} instance containing the result of the function otherwise
+     */
+    public static <A, B, C, D, R> Maybe<R> combineNullable(final Maybe<? extends A> a, final Maybe<? extends B> b,
+            final Maybe<? extends C> c, final Maybe<? extends D> d,
+            final Function4<? super A, ? super B, ? super C, ? super D, ? extends R> function) {
+        requireNonNull(a, "a == null");
+        requireNonNull(b, "b == null");
+        requireNonNull(c, "c == null");
+        requireNonNull(d, "d == null");
+        requireNonNull(function, "function == null");
+        if (!a.isPresent() || !b.isPresent() || !c.isPresent() || !d.isPresent())
+            return absent();
+        if (a.isNull() || b.isNull() || c.isNull() || d.isNull())
+            return of(null);
+        return of(function.apply(a.get(), b.get(), c.get(), d.get()));
+    }
+
+    /**
+     * Returns a {@link Maybe} instance combining the specified instances with the given {@code Function5}: an
+     * {@link #absent() absent} instance if any of them is absent, otherwise a {@link #isNull() null} instance if any
+     * value is {@code null}, otherwise the result of applying the function to the values. See
+     * {@link #combineNullable(Maybe, Maybe, BiFunction)}.
+     * 
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @param <D>      the type of the fourth value
+     * @param <E>      the type of the fifth value
+     * @param <R>      the type of the result
+     * @param a        the first instance
+     * @param b        the second instance
+     * @param c        the third instance
+     * @param d        the fourth instance
+     * @param e        the fifth instance
+     * @param function the function to apply to the values
+     * @return an {@link #absent() absent} instance if any instance is absent, a {@link #isNull() null} instance if any
+     *         value is {@code null}, or a {@link Maybe} instance containing the result of the function otherwise
+     */
+    public static <A, B, C, D, E, R> Maybe<R> combineNullable(final Maybe<? extends A> a, final Maybe<? extends B> b,
+            final Maybe<? extends C> c, final Maybe<? extends D> d, final Maybe<? extends E> e,
+            final Function5<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> function) {
+        requireNonNull(a, "a == null");
+        requireNonNull(b, "b == null");
+        requireNonNull(c, "c == null");
+        requireNonNull(d, "d == null");
+        requireNonNull(e, "e == null");
+        requireNonNull(function, "function == null");
+        if (!a.isPresent() || !b.isPresent() || !c.isPresent() || !d.isPresent() || !e.isPresent())
+            return absent();
+        if (a.isNull() || b.isNull() || c.isNull() || d.isNull() || e.isNull())
+            return of(null);
+        return of(function.apply(a.get(), b.get(), c.get(), d.get(), e.get()));
+    }
+
     /**
      * Returns a {@link Maybe} instance containing the result of {@link Map#get(Object) map.get(key)} if such a mapping
      * exists or an {@link #absent() absent} instance otherwise.
@@ -97,6 +270,13 @@ public class Maybe<T> {
      * Maybe}.{@link #get(Map, Object) get get(map, key)}.{@link #ifPresent(Consumer) ifPresent(System.out::println)};
      * }</pre>
      * 
+     * @implNote This method performs a single lookup whenever possible. Maps which do not permit {@code null} values
+     *           ({@code ConcurrentHashMap}, {@code ConcurrentSkipListMap}, and the JDK's immutable maps) are queried with
+     *           {@link Map#get(Object)} alone, which is also race-free. {@code EnumMap}, {@code IdentityHashMap} and
+     *           {@code TreeMap} fall back to {@link Map#containsKey(Object)} only when {@code get} returns {@code null}.
+     *           {@link MaybeHashMap}s are queried with {@link MaybeHashMap#getMaybe(Object)}. All other maps are
+     *           queried with a single {@link Map#getOrDefault(Object, Object)} call.
+     * 
      * @param <V> the type of values stored in the specified map
      * @param map the specified map
      * @param key the key whose associated value is to be returned
@@ -107,17 +287,330 @@ public class Maybe<T> {
      */
     public static <V> Maybe<V> get(final Map<?, ? extends V> map, final Object key) {
         requireNonNull(map, "map == null");
-        return map.containsKey(key) ? Maybe.of(map.get(key)) : Maybe.absent();
+        return MapLookup.of(map).get(map, key);
+    }
+
+    /**
+     * Looks up each of the specified keys in the specified map, as if by {@link #get(Map, Object)}, and returns the
+     * results in the same order.
+     * <p>
+     * 
+     * @implNote The lookup strategy is chosen once per batch and each key is probed once. No {@code Maybe} instance is
+     *           created per key. Batches of 65,536 or more keys against a {@code ConcurrentMap} are split across the
+     *           {@link ForkJoinPool#commonPool() common pool}.
+     * 
+     * @param <V>  the type of values stored in the specified map
+     * @param map  the specified map
+     * @param keys the keys whose associated values are to be returned
+     * @return a {@link MaybeArray} of the same length as {@code keys} whose elements are the values mapped to the
+     *         corresponding keys, or absent where there is no such mapping
+     * @throws ClassCastException   if any key is of an inappropriate class type for this map
+     * @throws NullPointerException if any key is {@code null} and this map does not permit {@code null} keys
+     */
+    public static <V> MaybeArray<V> getAll(final Map<?, ? extends V> map, final Object... keys) {
+        requireNonNull(map, "map == null");
+        requireNonNull(keys, "keys == null");
+        return MapLookup.of(map).getAll(map, keys);
+    }
+
+    /**
+     * Looks up each of the specified keys in the specified map, as if by {@link #get(Map, Object)}, and returns the
+     * results in iteration order.
+     * <p>
+     * 
+     * @implNote The keys are copied to an array and looked up as if by {@link #getAll(Map, Object...)}.
+     * 
+     * @param <V>  the type of values stored in the specified map
+     * @param map  the specified map
+     * @param keys the keys whose associated values are to be returned
+     * @return a {@link MaybeArray} whose elements are the values mapped to the corresponding keys, or absent where
+     *         there is no such mapping
+     * @throws ClassCastException   if any key is of an inappropriate class type for this map
+     * @throws NullPointerException if any key is {@code null} and this map does not permit {@code null} keys
+     */
+    public static <V> MaybeArray<V> getAll(final Map<?, ? extends V> map, final Iterable<?> keys) {
+        requireNonNull(map, "map == null");
+        requireNonNull(keys, "keys == null");
+        final Object[] array;
+        if (keys instanceof Collection)
+            array = ((Collection<?>) keys).toArray();
+        else {
+            final List<Object> list = new ArrayList<>();
+            keys.forEach(list::add);
+            array = list.toArray();
+        }
+        return MapLookup.of(map).getAll(map, array);
+    }
+
+    /**
+     * Loads each of the specified keys from the specified loader and returns the results in the same order.
+     * <p>
+     * Unlike {@link MaybeLoader#loadAll(List)} the number of results is checked against the number of keys, so a
+     * loader which returns a batch of the wrong size fails here rather than when the results are read.
+     * 
+     * @implNote The keys are copied to a list which is passed to a single {@link MaybeLoader#loadAll(List) loadAll}
+     *           call, which may be a single round trip to a remote store.
+     * 
+     * @param <K>    the type of keys
+     * @param <V>    the type of values
+     * @param loader the specified loader
+     * @param keys   the keys whose associated values are to be loaded
+     * @return a {@link MaybeArray} of the same length as {@code keys} whose elements are the results of loading the
+     *         corresponding keys
+     * @throws IllegalStateException if the loader returns a different number of results than there are keys
+     */
+    @SafeVarargs
+    public static <K, V> MaybeArray<V> getAll(final MaybeLoader<? super K, V> loader, final K... keys) {
+        requireNonNull(loader, "loader == null");
+        requireNonNull(keys, "keys == null");
+        final List<K> list = new ArrayList<>(keys.length);
+        for (final K key : keys)
+            list.add(key);
+        return loadAll(loader, list);
+    }
+
+    /**
+     * Loads each of the specified keys from the specified loader and returns the results in iteration order, as if by
+     * {@link #getAll(MaybeLoader, Object...)}.
+     * 
+     * @implNote The keys are copied to a list which is passed to a single {@link MaybeLoader#loadAll(List) loadAll}
+     *           call.
+     * 
+     * @param <K>    the type of keys
+     * @param <V>    the type of values
+     * @param loader the specified loader
+     * @param keys   the keys whose associated values are to be loaded
+     * @return a {@link MaybeArray} whose elements are the results of loading the corresponding keys
+     * @throws IllegalStateException if the loader returns a different number of results than there are keys
+     */
+    public static <K, V> MaybeArray<V> getAll(final MaybeLoader<? super K, V> loader,
+            final Iterable<? extends K> keys) {
+        requireNonNull(loader, "loader == null");
+        requireNonNull(keys, "keys == null");
+        final List<K> list;
+        if (keys instanceof Collection)
+            list = new ArrayList<>((Collection<? extends K>) keys);
+        else {
+            list = new ArrayList<>();
+            keys.forEach(list::add);
+        }
+        return loadAll(loader, list);
+    }
+
+    private static <K, V> MaybeArray<V> loadAll(final MaybeLoader<? super K, V> loader, final List<K> keys) {
+        final MaybeArray<V> results = loader.loadAll(keys);
+        if (results.length() != keys.size())
+            throw new IllegalStateException("loadAll returned " + results.length() + " results for " + keys.size()
+                    + " keys");
+        return results;
+    }
+
+    /**
+     * Returns a {@link Maybe} instance which defers calling the specified supplier until its state or value is first
+     * needed, and then caches the outcome, whether it is a value, {@code null} or {@link #absent() absent}. The
+     * supplier is called at most once, even when the instance is first accessed by several threads at once.
+     * <p>
+     * {@link #map(Function)}, {@link #filter(Predicate)}, {@link #or(Maybe)} and {@link #ifNull(Maybe)} return new lazy
+     * instances without evaluating this one, and without calling the specified function or predicate until the new
+     * instance is itself evaluated, even if this one has already been evaluated. All other methods, including
+     * {@link #equals(Object)}, {@link #hashCode()} and {@link #toString()}, evaluate it first. A lazy instance is equal
+     * to an eager instance with the same outcome.
+     * <p>
+     * If the supplier throws an exception it is propagated to the caller and the instance remains unevaluated, so the
+     * next access calls the supplier again.
+     * 
+     * @implNote No locks are held while the supplier runs. The first thread to access the instance claims the
+     *           evaluation with a compare-and-set and publishes the outcome through a {@code volatile} field. Threads
+     *           which access the instance while it is being evaluated wait for the outcome on a latch, which is only
+     *           allocated when such a thread exists. Instances derived from an evaluated instance apply the function
+     *           to its known outcome rather than evaluating it again.
+     * 
+     * @param <T>      the type of the value
+     * @param supplier the supplier of the outcome
+     * @return a {@link Maybe} instance which defers calling the specified supplier until its state or value is first
+     *         needed
+     */
+    public static <T> Maybe<T> lazy(final Supplier<? extends Maybe<? extends T>> supplier) {
+        return lazy(supplier, false);
+    }
+
+    /**
+     * Returns a {@link Maybe} instance which defers calling the specified supplier until its state or value is first
+     * needed, as if by {@link #lazy(Supplier)}, optionally allowing racing threads to call the supplier concurrently.
+     * <p>
+     * When {@code allowDuplicates} is {@code true}, threads which access the instance before it has been evaluated
+     * never wait: each calls the supplier, the first outcome to be published wins, and every thread sees that outcome.
+     * This is appropriate for cheap, side-effect free suppliers.
+     * 
+     * @param <T>             the type of the value
+     * @param supplier        the supplier of the outcome
+     * @param allowDuplicates whether racing threads may each call the supplier
+     * @return a {@link Maybe} instance which defers calling the specified supplier until its state or value is first
+     *         needed
+     */
+    public static <T> Maybe<T> lazy(final Supplier<? extends Maybe<? extends T>> supplier,
+            final boolean allowDuplicates) {
+        requireNonNull(supplier, "supplier == null");
+        return new Lazy<>(supplier, allowDuplicates);
     }
 
     /**
      * Returns a {@link Maybe} instance which contains the specified possibly {@link #isNull null} value.
      * 
+     * @implNote Shared instances are returned for {@code null}, {@link Boolean#TRUE}, {@link Boolean#FALSE}, enum
+     *           constants, and the {@link Integer#valueOf(int) cached} {@code Integer} instances between {@code -128} and
+     *           {@code 127}. Enum constants are only shared if their class is loaded by the class loader of this
+     *           library or one of its parents, so that caching them never prevents an enum in a child class loader from
+     *           being unloaded.
+     * 
      * @param value the specified value
      * @return a {@link Maybe} instance which contains the specified possibly {@link #isNull null} value
      */
+    @SuppressWarnings("unchecked")
     public static <T> Maybe<T> of(final T value) {
-        return new Maybe<>(value);
+        if (value == null)
+            return (Maybe<T>) NULL;
+
+        final Class<?> type = value.getClass();
+
+        if (type == Boolean.class) {
+            if (value == Boolean.TRUE)
+                return (Maybe<T>) TRUE;
+            if (value == Boolean.FALSE)
+                return (Maybe<T>) FALSE;
+        } else if (type == Integer.class) {
+            final int i = (Integer) value;
+            // only reuse the instance if it holds the very same Integer, so that get() preserves identity
+            if (i >= LOW && i <= HIGH && INTEGERS[i - LOW].value == value)
+                return (Maybe<T>) INTEGERS[i - LOW];
+        } else if (value instanceof Enum) {
+            final Maybe<?>[] cache = ENUMS.get(((Enum<?>) value).getDeclaringClass());
+            if (cache != UNCACHED)
+                return (Maybe<T>) cache[((Enum<?>) value).ordinal()];
+        }
+
+        return new Present<>(value);
+    }
+
+    /**
+     * Returns a {@link Maybe} instance containing the result of applying the given {@code BiFunction} to the possibly
+     * {@link #isNull() null} values of {@code a} and {@code b} if both are {@link #isPresent() present} or an
+     * {@link #absent() absent} instance otherwise.
+     * <p>
+     * The instances are checked in order and the first {@link #absent() absent} one short-circuits the rest. Unlike
+     * nested {@link #map(Function)} calls, no intermediate {@code Maybe} instances or capturing lambdas are allocated.
+     * {@link #isNull() Null} values are passed to the function as is; see
+     * {@link #combineNullable(Maybe, Maybe, BiFunction)} to propagate them instead.
+     * 
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <R>      the type of the result
+     * @param a        the first instance
+     * @param b        the second instance
+     * @param function the function to apply to the values
+     * @return a {@link Maybe} instance containing the result of applying the given {@code BiFunction} to the values
+     *         if all of them are {@link #isPresent() present} or an {@link #absent() absent} instance otherwise
+     */
+    public static <A, B, R> Maybe<R> zip(final Maybe<? extends A> a, final Maybe<? extends B> b,
+            final BiFunction<? super A, ? super B, ? extends R> function) {
+        requireNonNull(a, "a == null");
+        requireNonNull(b, "b == null");
+        requireNonNull(function, "function == null");
+        if (!a.isPresent() || !b.isPresent())
+            return absent();
+        return of(function.apply(a.get(), b.get()));
+    }
+
+    /**
+     * Returns a {@link Maybe} instance containing the result of applying the given {@code Function3} to the possibly
+     * {@link #isNull() null} values of the specified instances if all of them are {@link #isPresent() present} or an
+     * {@link #absent() absent} instance otherwise. See {@link #zip(Maybe, Maybe, BiFunction)}.
+     * 
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @param <R>      the type of the result
+     * @param a        the first instance
+     * @param b        the second instance
+     * @param c        the third instance
+     * @param function the function to apply to the values
+     * @return a {@link Maybe} instance containing the result of applying the given {@code Function3} to the values
+     *         if all of them are {@link #isPresent() present} or an {@link #absent() absent} instance otherwise
+     */
+    public static <A, B, C, R> Maybe<R> zip(final Maybe<? extends A> a, final Maybe<? extends B> b,
+            final Maybe<? extends C> c, final Function3<? super A, ? super B, ? super C, ? extends R> function) {
+        requireNonNull(a, "a == null");
+        requireNonNull(b, "b == null");
+        requireNonNull(c, "c == null");
+        requireNonNull(function, "function == null");
+        if (!a.isPresent() || !b.isPresent() || !c.isPresent())
+            return absent();
+        return of(function.apply(a.get(), b.get(), c.get()));
+    }
+
+    /**
+     * Returns a {@link Maybe} instance containing the result of applying the given {@code Function4} to the possibly
+     * {@link #isNull() null} values of the specified instances if all of them are {@link #isPresent() present} or an
+     * {@link #absent() absent} instance otherwise. See {@link #zip(Maybe, Maybe, BiFunction)}.
+     * 
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @param <D>      the type of the fourth value
+     * @param <R>      the type of the result
+     * @param a        the first instance
+     * @param b        the second instance
+     * @param c        the third instance
+     * @param d        the fourth instance
+     * @param function the function to apply to the values
+     * @return a {@link Maybe} instance containing the result of applying the given {@code Function4} to the values
+     *         if all of them are {@link #isPresent() present} or an {@link #absent() absent} instance otherwise
+     */
+    public static <A, B, C, D, R> Maybe<R> zip(final Maybe<? extends A> a, final Maybe<? extends B> b,
+            final Maybe<? extends C> c, final Maybe<? extends D> d,
+            final Function4<? super A, ? super B, ? super C, ? super D, ? extends R> function) {
+        requireNonNull(a, "a == null");
+        requireNonNull(b, "b == null");
+        requireNonNull(c, "c == null");
+        requireNonNull(d, "d == null");
+        requireNonNull(function, "function == null");
+        if (!a.isPresent() || !b.isPresent() || !c.isPresent() || !d.isPresent())
+            return absent();
+        return of(function.apply(a.get(), b.get(), c.get(), d.get()));
+    }
+
+    /**
+     * Returns a {@link Maybe} instance containing the result of applying the given {@code Function5} to the possibly
+     * {@link #isNull() null} values of the specified instances if all of them are {@link #isPresent() present} or an
+     * {@link #absent() absent} instance otherwise. See {@link #zip(Maybe, Maybe, BiFunction)}.
+     * 
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @param <D>      the type of the fourth value
+     * @param <E>      the type of the fifth value
+     * @param <R>      the type of the result
+     * @param a        the first instance
+     * @param b        the second instance
+     * @param c        the third instance
+     * @param d        the fourth instance
+     * @param e        the fifth instance
+     * @param function the function to apply to the values
+     * @return a {@link Maybe} instance containing the result of applying the given {@code Function5} to the values
+     *         if all of them are {@link #isPresent() present} or an {@link #absent() absent} instance otherwise
+     */
+    public static <A, B, C, D, E, R> Maybe<R> zip(final Maybe<? extends A> a, final Maybe<? extends B> b,
+            final Maybe<? extends C> c, final Maybe<? extends D> d, final Maybe<? extends E> e,
+            final Function5<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> function) {
+        requireNonNull(a, "a == null");
+        requireNonNull(b, "b == null");
+        requireNonNull(c, "c == null");
+        requireNonNull(d, "d == null");
+        requireNonNull(e, "e == null");
+        requireNonNull(function, "function == null");
+        if (!a.isPresent() || !b.isPresent() || !c.isPresent() || !d.isPresent() || !e.isPresent())
+            return absent();
+        return of(function.apply(a.get(), b.get(), c.get(), d.get(), e.get()));
     }
 
     /**
@@ -128,9 +621,49 @@ public class Maybe<T> {
      * @return the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or the {@code defaultValue}
      *         otherwise
      */
-    public T defaultTo(final T defaultValue) {
-        return isPresent ? value : defaultValue;
-    }
+    public abstract T defaultTo(T defaultValue);
+
+    /**
+     * Returns the result of applying the given {@code ToDoubleFunction} to the possibly {@link #isNull() null} value if
+     * it is {@link #isPresent() present} or the {@code defaultValue} otherwise.
+     * <p>
+     * This method is equivalent to {@code mapToDouble(function).defaultTo(defaultValue)} but does not allocate an
+     * intermediate {@link MaybeDouble}.
+     * 
+     * @param function     the function to apply to the value if it is {@link #isPresent() present}
+     * @param defaultValue the default value to return if no value is {@link #isPresent() present}
+     * @return the result of applying the given {@code ToDoubleFunction} to the possibly {@link #isNull() null} value if
+     *         it is {@link #isPresent() present} or the {@code defaultValue} otherwise
+     */
+    public abstract double defaultToDouble(ToDoubleFunction<? super T> function, double defaultValue);
+
+    /**
+     * Returns the result of applying the given {@code ToIntFunction} to the possibly {@link #isNull() null} value if it
+     * is {@link #isPresent() present} or the {@code defaultValue} otherwise.
+     * <p>
+     * This method is equivalent to {@code mapToInt(function).defaultTo(defaultValue)} but does not allocate an
+     * intermediate {@link MaybeInt}.
+     * 
+     * @param function     the function to apply to the value if it is {@link #isPresent() present}
+     * @param defaultValue the default value to return if no value is {@link #isPresent() present}
+     * @return the result of applying the given {@code ToIntFunction} to the possibly {@link #isNull() null} value if
+     *         it is {@link #isPresent() present} or the {@code defaultValue} otherwise
+     */
+    public abstract int defaultToInt(ToIntFunction<? super T> function, int defaultValue);
+
+    /**
+     * Returns the result of applying the given {@code ToLongFunction} to the possibly {@link #isNull() null} value if
+     * it is {@link #isPresent() present} or the {@code defaultValue} otherwise.
+     * <p>
+     * This method is equivalent to {@code mapToLong(function).defaultTo(defaultValue)} but does not allocate an
+     * intermediate {@link MaybeLong}.
+     * 
+     * @param function     the function to apply to the value if it is {@link #isPresent() present}
+     * @param defaultValue the default value to return if no value is {@link #isPresent() present}
+     * @return the result of applying the given {@code ToLongFunction} to the possibly {@link #isNull() null} value if
+     *         it is {@link #isPresent() present} or the {@code defaultValue} otherwise
+     */
+    public abstract long defaultToLong(ToLongFunction<? super T> function, long defaultValue);
 
     /**
      * Returns {@code this} {@link Maybe} instance if the value is {@link #isPresent() present} and satisfies the given
@@ -140,13 +673,7 @@ public class Maybe<T> {
      * @return {@code this} {@link Maybe} instnace if the value is {@link #isPresent() present} and satisfies the given
      *         {@code Predicate} or an {@link #absent() absent} instance otherwise
      */
-    public Maybe<T> filter(final Predicate<? super T> predicate) {
-        requireNonNull(predicate, "predicate == null");
-        if (!isPresent)
-            return this;
-        else
-            return predicate.test(value) ? this : absent();
-    }
+    public abstract Maybe<T> filter(Predicate<? super T> predicate);
 
     /**
      * Returns the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or throws a
@@ -156,11 +683,24 @@ public class Maybe<T> {
      *         {@code NoSuchElementException} otherwise
      * @throws NoSuchElementException if no value is {@link #isPresent() present}
      */
-    public T get() {
-        if (isPresent)
-            return value;
-        throw new NoSuchElementException();
-    }
+    public abstract T get();
+
+    /**
+     * Returns the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or throws a shared,
+     * preallocated {@code NoSuchElementException} otherwise.
+     * <p>
+     * Unlike {@link #get()} this method does not fill in a stack trace, which makes it suitable for code that treats an
+     * absent value as an expected miss in a tight loop. The thrown exception has an empty stack trace and is the same
+     * instance every time, so it should be caught close to the call site rather than logged or rethrown. Its cause and
+     * stack trace cannot be changed, but {@link Throwable#addSuppressed(Throwable) suppressed} exceptions cannot be
+     * rejected: callers must not attach any, either directly or by letting it escape a {@code try}-with-resources block
+     * whose {@code close()} also throws, since they would be shared by every subsequent caller.
+     * 
+     * @return the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or throws a
+     *         {@code NoSuchElementException} otherwise
+     * @throws NoSuchElementException if no value is {@link #isPresent() present}
+     */
+    public abstract T getOrFail();
 
     /**
      * {@link Consumer#accept(Object) Invokes} the specified {@code Consumer} if the value is {@link #isPresent() present}
@@ -169,12 +709,7 @@ public class Maybe<T> {
      * @param consumer the specified consumer
      * @return {@code this} {@link Maybe} instance
      */
-    public Maybe<T> ifNotNull(final Consumer<? super T> consumer) {
-        requireNonNull(consumer, "consumer == null");
-        if (value != null)
-            consumer.accept(value);
-        return this;
-    }
+    public abstract Maybe<T> ifNotNull(Consumer<? super T> consumer);
 
     /**
      * Returns {@code this} {@link Maybe} instance if the value is not {@link #isNull() null} or the {@code other} instance
@@ -184,11 +719,7 @@ public class Maybe<T> {
      * @return {@code this} {@link Maybe} instance if the value is not {@link #isNull() null} or the {@code other} instance
      *         otherwise
      */
-    @SuppressWarnings("unchecked")
-    public Maybe<T> ifNull(final Maybe<? extends T> other) {
-        requireNonNull(other, "other == null");
-        return isNull() ? (Maybe<T>) other : this;
-    }
+    public abstract Maybe<T> ifNull(Maybe<? extends T> other);
 
     /**
      * {@link Runnable#run() Invokes} the specified {@code Runnable} if the value is is {@link #isNull() null}.
@@ -196,12 +727,7 @@ public class Maybe<T> {
      * @param runnable the specified runnable
      * @return {@code this} {@link Maybe} instance
      */
-    public Maybe<T> ifNull(final Runnable runnable) {
-        requireNonNull(runnable, "runnable == null");
-        if (isNull())
-            runnable.run();
-        return this;
-    }
+    public abstract Maybe<T> ifNull(Runnable runnable);
 
     /**
      * Throws an exception produced by the specified {@code Supplier} if the value is {@link #isNull() null} or returns
@@ -212,12 +738,7 @@ public class Maybe<T> {
      * @return this {@link Maybe} instance if the value is not {@link #isPresent present} or is not {@link #isNull() null}
      * @throws X if the value is {@link #isNull() null}
      */
-    public <X extends Throwable> Maybe<T> ifNullThrow(final Supplier<? extends X> supplier) throws X {
-        requireNonNull(supplier, "supplier == null");
-        if (isNull())
-            throw requireNonNull(supplier.get(), "Supplier.get() == null");
-        return this;
-    }
+    public abstract <X extends Throwable> Maybe<T> ifNullThrow(Supplier<? extends X> supplier) throws X;
 
     /**
      * {@link Consumer#accept(Object) Invokes} the specified {@code Consumer} if the value is {@link #isPresent() present}.
@@ -225,30 +746,21 @@ public class Maybe<T> {
      * @param consumer the specified consumer
      * @return {@code this} {@link Maybe} instance
      */
-    public Maybe<T> ifPresent(final Consumer<? super T> consumer) {
-        requireNonNull(consumer, "consumer == null");
-        if (isPresent)
-            consumer.accept(value);
-        return this;
-    }
+    public abstract Maybe<T> ifPresent(Consumer<? super T> consumer);
 
     /**
      * Returns {@code true} if the value is {@link #isPresent() present} and is {@code null} or {@code false} otherwise.
      * 
      * @return {@code true} if the value is {@link #isPresent() present} and is {@code null} or {@code false} otherwise
      */
-    public boolean isNull() {
-        return isPresent && value == null;
-    }
+    public abstract boolean isNull();
 
     /**
      * Returns {@code true} if the value is present or {@code false} otherwise.
      * 
      * @return {@code true} if the value is present or {@code false} otherwise
      */
-    public boolean isPresent() {
-        return isPresent;
-    }
+    public abstract boolean isPresent();
 
     /**
      * Returns a {@link Maybe} instance which contains the result of applying the given {@code Function} to the current
@@ -259,10 +771,43 @@ public class Maybe<T> {
      * @return a {@link Maybe} instance which contains the result of applying the given {@code Function} to the current
      *         value if it is {@link #isPresent() present} or an {@link #absent() absent} instance otherwise
      */
-    public <U> Maybe<U> map(final Function<? super T, ? extends U> function) {
-        requireNonNull(function, "function == null");
-        return isPresent ? Maybe.of(function.apply(value)) : absent();
-    }
+    public abstract <U> Maybe<U> map(Function<? super T, ? extends U> function);
+
+    /**
+     * Returns a {@link MaybeDouble} instance which contains the result of applying the given {@code ToDoubleFunction}
+     * to the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or an
+     * {@link MaybeDouble#absent() absent} instance otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeDouble} instance which contains the result of applying the given {@code ToDoubleFunction}
+     *         to the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or an
+     *         {@link MaybeDouble#absent() absent} instance otherwise
+     */
+    public abstract MaybeDouble mapToDouble(ToDoubleFunction<? super T> function);
+
+    /**
+     * Returns a {@link MaybeInt} instance which contains the result of applying the given {@code ToIntFunction} to the
+     * possibly {@link #isNull() null} value if it is {@link #isPresent() present} or an
+     * {@link MaybeInt#absent() absent} instance otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeInt} instance which contains the result of applying the given {@code ToIntFunction} to the
+     *         possibly {@link #isNull() null} value if it is {@link #isPresent() present} or an
+     *         {@link MaybeInt#absent() absent} instance otherwise
+     */
+    public abstract MaybeInt mapToInt(ToIntFunction<? super T> function);
+
+    /**
+     * Returns a {@link MaybeLong} instance which contains the result of applying the given {@code ToLongFunction} to
+     * the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or an
+     * {@link MaybeLong#absent() absent} instance otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeLong} instance which contains the result of applying the given {@code ToLongFunction} to
+     *         the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or an
+     *         {@link MaybeLong#absent() absent} instance otherwise
+     */
+    public abstract MaybeLong mapToLong(ToLongFunction<? super T> function);
 
     /**
      * Returns {@code this} {@link Maybe} instance if the value is {@link #isPresent() present} or the {@code other}
@@ -272,11 +817,7 @@ public class Maybe<T> {
      * @return {@code this} {@link Maybe} instance if the value is {@link #isPresent() present} or the {@code other}
      *         instance otherwise
      */
-    @SuppressWarnings("unchecked")
-    public Maybe<T> or(final Maybe<? extends T> other) {
-        requireNonNull(other, "other == null");
-        return isPresent ? this : (Maybe<T>) other;
-    }
+    public abstract Maybe<T> or(Maybe<? extends T> other);
 
     /**
      * {@link Runnable#run() Invokes} the specified {@code Runnable} if the value is not {@link #isPresent() present}.
@@ -284,12 +825,22 @@ public class Maybe<T> {
      * @param runnable the specified runnable
      * @return {@code this} {@link Maybe} instance
      */
-    public Maybe<T> otherwise(final Runnable runnable) {
-        requireNonNull(runnable, "runnable == null");
-        if (!isPresent)
-            runnable.run();
-        return this;
-    }
+    public abstract Maybe<T> otherwise(Runnable runnable);
+
+    /**
+     * Returns the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or throws the specified
+     * exception otherwise.
+     * <p>
+     * This method is intended for a cached (typically stackless) exception instance. Unlike
+     * {@link #orElseThrow(Supplier)} it avoids the {@code Supplier} call and the construction of a new exception on every
+     * miss.
+     * 
+     * @param <X>       the type of exception to be thrown
+     * @param exception the exception to throw
+     * @return the possibly {@link #isNull() null} value if it is {@link #isPresent() present}
+     * @throws X if the value is not {@link #isPresent() present}
+     */
+    public abstract <X extends Throwable> T orElseFail(X exception) throws X;
 
     /**
      * Returns the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or {@link Supplier#get()}
@@ -299,10 +850,7 @@ public class Maybe<T> {
      * @return the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or {@link Supplier#get()}
      *         otherwise
      */
-    public T orElseGet(final Supplier<? extends T> supplier) {
-        requireNonNull(supplier, "supplier == null");
-        return isPresent ? value : supplier.get();
-    }
+    public abstract T orElseGet(Supplier<? extends T> supplier);
 
     /**
      * Returns the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or throws an exception
@@ -313,13 +861,7 @@ public class Maybe<T> {
      * @return the possibly {@link #isNull() null} value if it is {@link #isPresent() present}
      * @throws X if the value is not {@link #isPresent() present}
      */
-    public <X extends Throwable> T orElseThrow(final Supplier<? extends X> supplier) throws X {
-        requireNonNull(supplier, "supplier == null");
-        if (isPresent)
-            return value;
-        else
-            throw requireNonNull(supplier.get(), "Supplier.get() == null");
-    }
+    public abstract <X extends Throwable> T orElseThrow(Supplier<? extends X> supplier) throws X;
 
     /**
      * Returns the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or the {@code null}
@@ -327,20 +869,16 @@ public class Maybe<T> {
      * 
      * @return the possibly {@link #isNull() null} value if it is {@link #isPresent() present} or the {@code null} otherwise
      */
-    public T orNull() {
-        return defaultTo((T) null);
-    }
+    public abstract T orNull();
 
     /**
-     * Returns a sequential {@link Stream} containing the value if it is {@link isPresent present} or an
+     * Returns a sequential {@link Stream} containing the value if it is {@link isPresent() present} or an
      * {@link Stream#empty() empty} {@code Stream} otherwise.
      *
-     * @return a sequential {@link Stream} containing the value if it is {@link isPresent present} or an
+     * @return a sequential {@link Stream} containing the value if it is {@link isPresent() present} or an
      *         {@link Stream#empty() empty} {@code Stream} otherwise
      */
-    public Stream<T> stream() {
-        return isPresent ? Stream.of(value) : Stream.empty();
-    }
+    public abstract Stream<T> stream();
 
     /**
      * Returns this {@link Maybe} as a Java {@link Optional}.
@@ -348,44 +886,877 @@ public class Maybe<T> {
      * <b>Note:</b> A {@link #isNull() null} value will be treated as an {@link Optional#ofNullable(Object) empty} value by
      * Java's {@code Optional}.
      * 
-     * @implNote This method uses <a href="https://en.wikipedia.org/wiki/Double-checked_locking" target="_blank">
-     *           Double-Checked Locking</a> to lazily return a single {@code Optional} instance and is safe to use in a
-     *           concurrent environment.
+     * @implNote This method takes no locks and is safe to use in a concurrent environment. {@link #absent() Absent} and
+     *           {@link #isNull() null} instances are converted to the shared {@link Optional#empty()} instance.
      * 
      * @return {@code this} {@link Maybe} as a Java {@link Optional}
      */
-    public Optional<T> toOptional() {
-        Optional<T> ref = optional;
-        if (ref == null)
-            synchronized (this) {
-                ref = optional;
-                if (ref == null)
-                    optional = ref = Optional.ofNullable(value);
-            }
-        return ref;
+    public abstract Optional<T> toOptional();
+
+    // hash codes are computed without allocation but match Objects.hash(isPresent(), orNull())
+    private static final int PRESENT_HASH = 31 * (31 + Boolean.hashCode(true));
+    private static final int ABSENT_HASH  = 31 * (31 + Boolean.hashCode(false));
+
+    private static final NoSuchElementException MISSING = new MissingValueException();
+
+    // NoSuchElementException has no constructor which disables the stack trace or suppression so the shared instance
+    // overrides what it can to stay immutable; addSuppressed is final and is documented on getOrFail instead
+    private static final class MissingValueException extends NoSuchElementException {
+
+        private static final long serialVersionUID = 1L;
+
+        private MissingValueException() {
+            super("No value present");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public synchronized Throwable initCause(final Throwable cause) {
+            throw new IllegalStateException("cannot change the cause of a shared exception");
+        }
+
+        @Override
+        public void setStackTrace(final StackTraceElement[] stackTrace) {
+            requireNonNull(stackTrace, "stackTrace == null"); // ignored like an unwritable stack trace
+        }
+
     }
 
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj)
+    private static final class Absent<T> extends Maybe<T> {
+
+        @Override
+        public T defaultTo(final T defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public double defaultToDouble(final ToDoubleFunction<? super T> function, final double defaultValue) {
+            requireNonNull(function, "function == null");
+            return defaultValue;
+        }
+
+        @Override
+        public int defaultToInt(final ToIntFunction<? super T> function, final int defaultValue) {
+            requireNonNull(function, "function == null");
+            return defaultValue;
+        }
+
+        @Override
+        public long defaultToLong(final ToLongFunction<? super T> function, final long defaultValue) {
+            requireNonNull(function, "function == null");
+            return defaultValue;
+        }
+
+        @Override
+        public Maybe<T> filter(final Predicate<? super T> predicate) {
+            requireNonNull(predicate, "predicate == null");
+            return this;
+        }
+
+        @Override
+        public T get() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public T getOrFail() {
+            throw MISSING;
+        }
+
+        @Override
+        public Maybe<T> ifNotNull(final Consumer<? super T> consumer) {
+            requireNonNull(consumer, "consumer == null");
+            return this;
+        }
+
+        @Override
+        public Maybe<T> ifNull(final Maybe<? extends T> other) {
+            requireNonNull(other, "other == null");
+            return this;
+        }
+
+        @Override
+        public Maybe<T> ifNull(final Runnable runnable) {
+            requireNonNull(runnable, "runnable == null");
+            return this;
+        }
+
+        @Override
+        public <X extends Throwable> Maybe<T> ifNullThrow(final Supplier<? extends X> supplier) throws X {
+            requireNonNull(supplier, "supplier == null");
+            return this;
+        }
+
+        @Override
+        public Maybe<T> ifPresent(final Consumer<? super T> consumer) {
+            requireNonNull(consumer, "consumer == null");
+            return this;
+        }
+
+        @Override
+        public boolean isNull() {
+            return false;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <U> Maybe<U> map(final Function<? super T, ? extends U> function) {
+            requireNonNull(function, "function == null");
+            return (Maybe<U>) this;
+        }
+
+        @Override
+        public MaybeDouble mapToDouble(final ToDoubleFunction<? super T> function) {
+            requireNonNull(function, "function == null");
+            return MaybeDouble.absent();
+        }
+
+        @Override
+        public MaybeInt mapToInt(final ToIntFunction<? super T> function) {
+            requireNonNull(function, "function == null");
+            return MaybeInt.absent();
+        }
+
+        @Override
+        public MaybeLong mapToLong(final ToLongFunction<? super T> function) {
+            requireNonNull(function, "function == null");
+            return MaybeLong.absent();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Maybe<T> or(final Maybe<? extends T> other) {
+            requireNonNull(other, "other == null");
+            return (Maybe<T>) other;
+        }
+
+        @Override
+        public Maybe<T> otherwise(final Runnable runnable) {
+            requireNonNull(runnable, "runnable == null");
+            runnable.run();
+            return this;
+        }
+
+        @Override
+        public <X extends Throwable> T orElseFail(final X exception) throws X {
+            throw requireNonNull(exception, "exception == null");
+        }
+
+        @Override
+        public T orElseGet(final Supplier<? extends T> supplier) {
+            requireNonNull(supplier, "supplier == null");
+            return supplier.get();
+        }
+
+        @Override
+        public <X extends Throwable> T orElseThrow(final Supplier<? extends X> supplier) throws X {
+            requireNonNull(supplier, "supplier == null");
+            throw requireNonNull(supplier.get(), "Supplier.get() == null");
+        }
+
+        @Override
+        public T orNull() {
+            return null;
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return Stream.empty();
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == evaluated(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return ABSENT_HASH;
+        }
+
+        @Override
+        public String toString() {
+            return "Maybe[]";
+        }
+
+    }
+
+    private static final class Null<T> extends Maybe<T> {
+
+        @Override
+        public T defaultTo(final T defaultValue) {
+            return null;
+        }
+
+        @Override
+        public double defaultToDouble(final ToDoubleFunction<? super T> function, final double defaultValue) {
+            requireNonNull(function, "function == null");
+            return function.applyAsDouble(null);
+        }
+
+        @Override
+        public int defaultToInt(final ToIntFunction<? super T> function, final int defaultValue) {
+            requireNonNull(function, "function == null");
+            return function.applyAsInt(null);
+        }
+
+        @Override
+        public long defaultToLong(final ToLongFunction<? super T> function, final long defaultValue) {
+            requireNonNull(function, "function == null");
+            return function.applyAsLong(null);
+        }
+
+        @Override
+        public Maybe<T> filter(final Predicate<? super T> predicate) {
+            requireNonNull(predicate, "predicate == null");
+            return predicate.test(null) ? this : absent();
+        }
+
+        @Override
+        public T get() {
+            return null;
+        }
+
+        @Override
+        public T getOrFail() {
+            return null;
+        }
+
+        @Override
+        public Maybe<T> ifNotNull(final Consumer<? super T> consumer) {
+            requireNonNull(consumer, "consumer == null");
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Maybe<T> ifNull(final Maybe<? extends T> other) {
+            requireNonNull(other, "other == null");
+            return (Maybe<T>) other;
+        }
+
+        @Override
+        public Maybe<T> ifNull(final Runnable runnable) {
+            requireNonNull(runnable, "runnable == null");
+            runnable.run();
+            return this;
+        }
+
+        @Override
+        public <X extends Throwable> Maybe<T> ifNullThrow(final Supplier<? extends X> supplier) throws X {
+            requireNonNull(supplier, "supplier == null");
+            throw requireNonNull(supplier.get(), "Supplier.get() == null");
+        }
+
+        @Override
+        public Maybe<T> ifPresent(final Consumer<? super T> consumer) {
+            requireNonNull(consumer, "consumer == null");
+            consumer.accept(null);
+            return this;
+        }
+
+        @Override
+        public boolean isNull() {
+            return true;
+        }
+
+        @Override
+        public boolean isPresent() {
             return true;
+        }
+
+        @Override
+        public <U> Maybe<U> map(final Function<? super T, ? extends U> function) {
+            requireNonNull(function, "function == null");
+            return Maybe.of(function.apply(null));
+        }
+
+        @Override
+        public MaybeDouble mapToDouble(final ToDoubleFunction<? super T> function) {
+            requireNonNull(function, "function == null");
+            return MaybeDouble.of(function.applyAsDouble(null));
+        }
+
+        @Override
+        public MaybeInt mapToInt(final ToIntFunction<? super T> function) {
+            requireNonNull(function, "function == null");
+            return MaybeInt.of(function.applyAsInt(null));
+        }
+
+        @Override
+        public MaybeLong mapToLong(final ToLongFunction<? super T> function) {
+            requireNonNull(function, "function == null");
+            return MaybeLong.of(function.applyAsLong(null));
+        }
+
+        @Override
+        public Maybe<T> or(final Maybe<? extends T> other) {
+            requireNonNull(other, "other == null");
+            return this;
+        }
+
+        @Override
+        public Maybe<T> otherwise(final Runnable runnable) {
+            requireNonNull(runnable, "runnable == null");
+            return this;
+        }
+
+        @Override
+        public <X extends Throwable> T orElseFail(final X exception) throws X {
+            requireNonNull(exception, "exception == null");
+            return null;
+        }
+
+        @Override
+        public T orElseGet(final Supplier<? extends T> supplier) {
+            requireNonNull(supplier, "supplier == null");
+            return null;
+        }
+
+        @Override
+        public <X extends Throwable> T orElseThrow(final Supplier<? extends X> supplier) throws X {
+            requireNonNull(supplier, "supplier == null");
+            return null;
+        }
+
+        @Override
+        public T orNull() {
+            return null;
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return StreamSupport.stream(new SingletonSpliterator<>(null, 0), false);
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == evaluated(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return PRESENT_HASH;
+        }
+
+        @Override
+        public String toString() {
+            return "Maybe[null]";
+        }
+
+    }
+
+    private static final class Present<T> extends Maybe<T> {
+
+        private final T value; // never null
+
+        private Present(final T value) {
+            this.value = value;
+        }
+
+        @Override
+        public T defaultTo(final T defaultValue) {
+            return value;
+        }
+
+        @Override
+        public double defaultToDouble(final ToDoubleFunction<? super T> function, final double defaultValue) {
+            requireNonNull(function, "function == null");
+            return function.applyAsDouble(value);
+        }
+
+        @Override
+        public int defaultToInt(final ToIntFunction<? super T> function, final int defaultValue) {
+            requireNonNull(function, "function == null");
+            return function.applyAsInt(value);
+        }
+
+        @Override
+        public long defaultToLong(final ToLongFunction<? super T> function, final long defaultValue) {
+            requireNonNull(function, "function == null");
+            return function.applyAsLong(value);
+        }
+
+        @Override
+        public Maybe<T> filter(final Predicate<? super T> predicate) {
+            requireNonNull(predicate, "predicate == null");
+            return predicate.test(value) ? this : absent();
+        }
+
+        @Override
+        public T get() {
+            return value;
+        }
+
+        @Override
+        public T getOrFail() {
+            return value;
+        }
 
-        if (obj == null || getClass() != obj.getClass())
+        @Override
+        public Maybe<T> ifNotNull(final Consumer<? super T> consumer) {
+            requireNonNull(consumer, "consumer == null");
+            consumer.accept(value);
+            return this;
+        }
+
+        @Override
+        public Maybe<T> ifNull(final Maybe<? extends T> other) {
+            requireNonNull(other, "other == null");
+            return this;
+        }
+
+        @Override
+        public Maybe<T> ifNull(final Runnable runnable) {
+            requireNonNull(runnable, "runnable == null");
+            return this;
+        }
+
+        @Override
+        public <X extends Throwable> Maybe<T> ifNullThrow(final Supplier<? extends X> supplier) throws X {
+            requireNonNull(supplier, "supplier == null");
+            return this;
+        }
+
+        @Override
+        public Maybe<T> ifPresent(final Consumer<? super T> consumer) {
+            requireNonNull(consumer, "consumer == null");
+            consumer.accept(value);
+            return this;
+        }
+
+        @Override
+        public boolean isNull() {
             return false;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return true;
+        }
+
+        @Override
+        public <U> Maybe<U> map(final Function<? super T, ? extends U> function) {
+            requireNonNull(function, "function == null");
+            return Maybe.of(function.apply(value));
+        }
+
+        @Override
+        public MaybeDouble mapToDouble(final ToDoubleFunction<? super T> function) {
+            requireNonNull(function, "function == null");
+            return MaybeDouble.of(function.applyAsDouble(value));
+        }
 
-        final Maybe<?> other = (Maybe<?>) obj;
+        @Override
+        public MaybeInt mapToInt(final ToIntFunction<? super T> function) {
+            requireNonNull(function, "function == null");
+            return MaybeInt.of(function.applyAsInt(value));
+        }
+
+        @Override
+        public MaybeLong mapToLong(final ToLongFunction<? super T> function) {
+            requireNonNull(function, "function == null");
+            return MaybeLong.of(function.applyAsLong(value));
+        }
+
+        @Override
+        public Maybe<T> or(final Maybe<? extends T> other) {
+            requireNonNull(other, "other == null");
+            return this;
+        }
+
+        @Override
+        public Maybe<T> otherwise(final Runnable runnable) {
+            requireNonNull(runnable, "runnable == null");
+            return this;
+        }
+
+        @Override
+        public <X extends Throwable> T orElseFail(final X exception) throws X {
+            requireNonNull(exception, "exception == null");
+            return value;
+        }
+
+        @Override
+        public T orElseGet(final Supplier<? extends T> supplier) {
+            requireNonNull(supplier, "supplier == null");
+            return value;
+        }
+
+        @Override
+        public <X extends Throwable> T orElseThrow(final Supplier<? extends X> supplier) throws X {
+            requireNonNull(supplier, "supplier == null");
+            return value;
+        }
+
+        @Override
+        public T orNull() {
+            return value;
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return StreamSupport.stream(new SingletonSpliterator<>(value, Spliterator.NONNULL), false);
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            final Object other = evaluated(obj);
+
+            if (this == other)
+                return true;
+
+            if (!(other instanceof Present))
+                return false;
+
+            return value.equals(((Present<?>) other).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return PRESENT_HASH + value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            final String string = String.valueOf(value);
+            return new StringBuilder(string.length() + 7).append("Maybe[").append(string).append(']').toString();
+        }
 
-        return isPresent == other.isPresent && Objects.equals(value, other.value);
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(isPresent, value);
+    // replaces a lazy instance with its outcome, so that eager instances compare equal to lazy ones
+    private static Object evaluated(final Object obj) {
+        return obj instanceof Lazy ? ((Lazy<?>) obj).evaluate() : obj;
     }
 
-    @Override
-    public String toString() {
-        return String.format("%s[%s", Maybe.class.getSimpleName(), isPresent() ? value + "]" : "]");
+    private static final class Lazy<T> extends Maybe<T> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Lazy, Object> RESULT = AtomicReferenceFieldUpdater
+                .newUpdater(Lazy.class, Object.class, "result");
+
+        private final boolean allowDuplicates;
+
+        // result is null, the evaluating Thread, an Evaluation once another thread waits for it, or the outcome
+        private volatile Supplier<? extends Maybe<? extends T>> supplier; // cleared once evaluated
+        private volatile Object                                 result;
+
+        private Lazy(final Supplier<? extends Maybe<? extends T>> supplier, final boolean allowDuplicates) {
+            this.supplier        = supplier;
+            this.allowDuplicates = allowDuplicates;
+        }
+
+        // replaces the evaluating thread once another thread has to wait for it to count down
+        private static final class Evaluation extends CountDownLatch {
+
+            private final Thread owner;
+
+            private Evaluation(final Thread owner) {
+                super(1);
+                this.owner = owner;
+            }
+
+        }
+
+        @SuppressWarnings("unchecked")
+        private Maybe<T> evaluate() {
+            for (;;) {
+                final Object current = result;
+                if (current instanceof Maybe)
+                    return (Maybe<T>) current;
+
+                if (allowDuplicates) {
+                    final Supplier<? extends Maybe<? extends T>> s = supplier;
+                    if (s == null)
+                        continue; // cleared after the outcome was published
+                    final Maybe<T> outcome = call(s);
+                    if (RESULT.compareAndSet(this, null, outcome))
+                        supplier = null;
+                    continue;
+                }
+
+                // the evaluating thread claims the instance with itself, a latch is only allocated by a waiting thread
+                if (current == null) {
+                    if (!RESULT.compareAndSet(this, null, Thread.currentThread()))
+                        continue;
+                    Maybe<T> outcome = null;
+                    try {
+                        outcome  = call(supplier);
+                        supplier = null;
+                        return outcome;
+                    } finally {
+                        // a null outcome means the supplier threw, so the next access will try again
+                        final Object previous = RESULT.getAndSet(this, outcome);
+                        if (previous instanceof Evaluation)
+                            ((Evaluation) previous).countDown();
+                    }
+                }
+
+                final Thread owner = current instanceof Evaluation ? ((Evaluation) current).owner : (Thread) current;
+                if (owner == Thread.currentThread())
+                    throw new IllegalStateException("recursive evaluation");
+                final Evaluation evaluation;
+                if (current instanceof Evaluation)
+                    evaluation = (Evaluation) current;
+                else if (!RESULT.compareAndSet(this, current, evaluation = new Evaluation(owner)))
+                    continue;
+                boolean interrupted = false;
+                for (;;)
+                    try {
+                        evaluation.await();
+                        break;
+                    } catch (final InterruptedException e) {
+                        interrupted = true;
+                    }
+                if (interrupted)
+                    Thread.currentThread().interrupt();
+            }
+        }
+
+        // the outcome if this instance has already been evaluated, or null otherwise
+        @SuppressWarnings("unchecked")
+        private Maybe<T> outcome() {
+            final Object current = result;
+            return current instanceof Maybe ? (Maybe<T>) current : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Maybe<T> call(final Supplier<? extends Maybe<? extends T>> supplier) {
+            final Maybe<? extends T> outcome = requireNonNull(supplier.get(), "Supplier.get() == null");
+            return (Maybe<T>) (outcome instanceof Lazy ? ((Lazy<? extends T>) outcome).evaluate() : outcome);
+        }
+
+        @Override
+        public T defaultTo(final T defaultValue) {
+            return evaluate().defaultTo(defaultValue);
+        }
+
+        @Override
+        public double defaultToDouble(final ToDoubleFunction<? super T> function, final double defaultValue) {
+            return evaluate().defaultToDouble(function, defaultValue);
+        }
+
+        @Override
+        public int defaultToInt(final ToIntFunction<? super T> function, final int defaultValue) {
+            return evaluate().defaultToInt(function, defaultValue);
+        }
+
+        @Override
+        public long defaultToLong(final ToLongFunction<? super T> function, final long defaultValue) {
+            return evaluate().defaultToLong(function, defaultValue);
+        }
+
+        @Override
+        public Maybe<T> filter(final Predicate<? super T> predicate) {
+            requireNonNull(predicate, "predicate == null");
+            final Maybe<T> outcome = outcome();
+            if (outcome != null)
+                return new Lazy<>(() -> outcome.filter(predicate), allowDuplicates);
+            return new Lazy<>(() -> evaluate().filter(predicate), allowDuplicates);
+        }
+
+        @Override
+        public T get() {
+            return evaluate().get();
+        }
+
+        @Override
+        public T getOrFail() {
+            return evaluate().getOrFail();
+        }
+
+        @Override
+        public Maybe<T> ifNotNull(final Consumer<? super T> consumer) {
+            return evaluate().ifNotNull(consumer);
+        }
+
+        @Override
+        public Maybe<T> ifNull(final Maybe<? extends T> other) {
+            requireNonNull(other, "other == null");
+            final Maybe<T> outcome = outcome();
+            if (outcome != null)
+                return new Lazy<>(() -> outcome.ifNull(other), allowDuplicates);
+            return new Lazy<>(() -> evaluate().ifNull(other), allowDuplicates);
+        }
+
+        @Override
+        public Maybe<T> ifNull(final Runnable runnable) {
+            return evaluate().ifNull(runnable);
+        }
+
+        @Override
+        public <X extends Throwable> Maybe<T> ifNullThrow(final Supplier<? extends X> supplier) throws X {
+            return evaluate().ifNullThrow(supplier);
+        }
+
+        @Override
+        public Maybe<T> ifPresent(final Consumer<? super T> consumer) {
+            return evaluate().ifPresent(consumer);
+        }
+
+        @Override
+        public boolean isNull() {
+            return evaluate().isNull();
+        }
+
+        @Override
+        public boolean isPresent() {
+            return evaluate().isPresent();
+        }
+
+        @Override
+        public <U> Maybe<U> map(final Function<? super T, ? extends U> function) {
+            requireNonNull(function, "function == null");
+            final Maybe<T> outcome = outcome();
+            if (outcome != null)
+                return new Lazy<>(() -> outcome.map(function), allowDuplicates);
+            return new Lazy<>(() -> evaluate().map(function), allowDuplicates);
+        }
+
+        @Override
+        public MaybeDouble mapToDouble(final ToDoubleFunction<? super T> function) {
+            return evaluate().mapToDouble(function);
+        }
+
+        @Override
+        public MaybeInt mapToInt(final ToIntFunction<? super T> function) {
+            return evaluate().mapToInt(function);
+        }
+
+        @Override
+        public MaybeLong mapToLong(final ToLongFunction<? super T> function) {
+            return evaluate().mapToLong(function);
+        }
+
+        @Override
+        public Maybe<T> or(final Maybe<? extends T> other) {
+            requireNonNull(other, "other == null");
+            final Maybe<T> outcome = outcome();
+            if (outcome != null)
+                return new Lazy<>(() -> outcome.or(other), allowDuplicates);
+            return new Lazy<>(() -> evaluate().or(other), allowDuplicates);
+        }
+
+        @Override
+        public Maybe<T> otherwise(final Runnable runnable) {
+            return evaluate().otherwise(runnable);
+        }
+
+        @Override
+        public <X extends Throwable> T orElseFail(final X exception) throws X {
+            return evaluate().orElseFail(exception);
+        }
+
+        @Override
+        public T orElseGet(final Supplier<? extends T> supplier) {
+            return evaluate().orElseGet(supplier);
+        }
+
+        @Override
+        public <X extends Throwable> T orElseThrow(final Supplier<? extends X> supplier) throws X {
+            return evaluate().orElseThrow(supplier);
+        }
+
+        @Override
+        public T orNull() {
+            return evaluate().orNull();
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return evaluate().stream();
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return evaluate().toOptional();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return evaluate().equals(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return evaluate().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return evaluate().toString();
+        }
+
+    }
+
+    // a sized spliterator over a single possibly null element, which pushes it straight into the downstream action
+    private static final class SingletonSpliterator<T> implements Spliterator<T> {
+
+        private final T   value;
+        private final int characteristics;
+        private boolean   consumed;
+
+        private SingletonSpliterator(final T value, final int characteristics) {
+            this.value           = value;
+            this.characteristics = characteristics | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED
+                    | Spliterator.IMMUTABLE;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            requireNonNull(action, "action == null");
+            if (consumed)
+                return false;
+            consumed = true;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+            tryAdvance(action);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return consumed ? 0 : 1;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+
     }
 
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A fixed-length array of elements which are each either <i>absent</i>, {@code null}, or a value, stored without a
+ * {@link Maybe} object per element. Values are held in an {@code Object[]} and the presence of each element in a
+ * packed {@code long[]} bitmap: an element whose bit is set holds its (possibly {@code null}) value, and an element
+ * whose bit is clear is absent. All elements are initially absent.
+ * <p>
+ * Compared to a {@code List<Maybe<T>>}, which costs a list slot and a {@code Maybe} instance per element, this
+ * container costs one array slot and one bit per element. {@link #isPresent(int)}, {@link #isNull(int)} and
+ * {@link #forEachPresent(ObjIntConsumer)} never allocate, and {@link #get(int)} returns the canonical
+ * {@link Maybe#absent() absent} and {@code null} instances.
+ * <p>
+ * This class is not synchronized.
+ * 
+ * @param <T> the type of values
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeArray<T> {
+
+    private final Object[] values;
+    private final long[]   present;
+
+    /**
+     * Creates a new {@link MaybeArray} of the specified length whose elements are all absent.
+     * 
+     * @param length the length of the array
+     * @throws IllegalArgumentException if {@code length} is negative
+     */
+    public MaybeArray(final int length) {
+        if (length < 0)
+            throw new IllegalArgumentException("length < 0");
+        values  = new Object[length];
+        present = new long[(length + 63) >>> 6];
+    }
+
+    /**
+     * Returns the length of this array.
+     * 
+     * @return the length of this array
+     */
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Returns a {@link Maybe} instance containing the possibly {@code null} element at the specified index or an
+     * {@link Maybe#absent() absent} instance if the element is absent.
+     * 
+     * @param i the index of the element
+     * @return a {@link Maybe} instance containing the possibly {@code null} element at the specified index or an
+     *         {@link Maybe#absent() absent} instance if the element is absent
+     * @throws IndexOutOfBoundsException if {@code i < 0 || i >= length()}
+     */
+    @SuppressWarnings("unchecked")
+    public Maybe<T> get(final int i) {
+        return isPresent(i) ? Maybe.of((T) values[i]) : Maybe.absent();
+    }
+
+    /**
+     * Returns {@code true} if the element at the specified index is not absent.
+     * 
+     * @param i the index of the element
+     * @return {@code true} if the element at the specified index is not absent
+     * @throws IndexOutOfBoundsException if {@code i < 0 || i >= length()}
+     */
+    public boolean isPresent(final int i) {
+        return (present[checkIndex(i) >>> 6] & 1L << i) != 0;
+    }
+
+    /**
+     * Returns {@code true} if the element at the specified index is {@code null}.
+     * 
+     * @param i the index of the element
+     * @return {@code true} if the element at the specified index is {@code null}
+     * @throws IndexOutOfBoundsException if {@code i < 0 || i >= length()}
+     */
+    public boolean isNull(final int i) {
+        return isPresent(i) && values[i] == null;
+    }
+
+    /**
+     * Sets the element at the specified index to the specified possibly {@code null} value.
+     * 
+     * @param i     the index of the element
+     * @param value the possibly {@code null} value
+     * @throws IndexOutOfBoundsException if {@code i < 0 || i >= length()}
+     */
+    public void set(final int i, final T value) {
+        values[checkIndex(i)] = value;
+        present[i >>> 6] |= 1L << i;
+    }
+
+    /**
+     * Sets the element at the specified index to {@code null}.
+     * 
+     * @param i the index of the element
+     * @throws IndexOutOfBoundsException if {@code i < 0 || i >= length()}
+     */
+    public void setNull(final int i) {
+        set(i, null);
+    }
+
+    /**
+     * Makes the element at the specified index absent.
+     * 
+     * @param i the index of the element
+     * @throws IndexOutOfBoundsException if {@code i < 0 || i >= length()}
+     */
+    public void clear(final int i) {
+        values[checkIndex(i)] = null;
+        present[i >>> 6] &= ~(1L << i);
+    }
+
+    /**
+     * Returns the number of elements which are not absent.
+     * 
+     * @return the number of elements which are not absent
+     */
+    public int countPresent() {
+        int count = 0;
+        for (final long word : present)
+            count += Long.bitCount(word);
+        return count;
+    }
+
+    /**
+     * Performs the specified action on every element which is not absent, in index order. Absent elements are skipped
+     * 64 at a time using the bitmap and no {@link Maybe} instance is created.
+     * 
+     * @param action the action to perform, which receives the possibly {@code null} element and its index
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachPresent(final ObjIntConsumer<? super T> action) {
+        requireNonNull(action, "action == null");
+        for (int w = 0; w < present.length; w++)
+            for (long bits = present[w]; bits != 0; bits &= bits - 1) {
+                final int i = w << 6 | Long.numberOfTrailingZeros(bits);
+                action.accept((T) values[i], i);
+            }
+    }
+
+    /**
+     * Returns a fixed-size {@link List} view of this array, where each element is the {@link Maybe} instance returned
+     * by {@link #get(int)}. Setting an element of the list sets the element of this array to the same state.
+     * 
+     * @return a fixed-size {@link List} view of this array
+     */
+    public List<Maybe<T>> asList() {
+        return new AsList();
+    }
+
+    /**
+     * Returns {@code true} if the specified object is a {@link MaybeArray} of the same length whose elements are equal
+     * to and in the same state as the elements of this array.
+     * 
+     * @param obj the reference object with which to compare
+     * @return {@code true} if the specified object is equal to this array
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this)
+            return true;
+        if (!(obj instanceof MaybeArray))
+            return false;
+        final MaybeArray<?> other = (MaybeArray<?>) obj;
+        return Arrays.equals(present, other.present) && Arrays.equals(values, other.values);
+    }
+
+    /**
+     * Returns the hash code of this array, which is the same as the hash code of its {@link #asList() list view}.
+     * 
+     * @return the hash code of this array
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < values.length; i++)
+            hash = 31 * hash + get(i).hashCode();
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private int checkIndex(final int i) {
+        if (i < 0 || i >= values.length)
+            throw new IndexOutOfBoundsException("i < 0 || i >= length()");
+        return i;
+    }
+
+    private final class AsList extends AbstractList<Maybe<T>> implements RandomAccess {
+
+        @Override
+        public Maybe<T> get(final int i) {
+            return MaybeArray.this.get(i);
+        }
+
+        @Override
+        public Maybe<T> set(final int i, final Maybe<T> maybe) {
+            requireNonNull(maybe, "maybe == null");
+            final Maybe<T> previous = MaybeArray.this.get(i);
+            if (maybe.isPresent())
+                MaybeArray.this.set(i, maybe.orNull());
+            else
+                MaybeArray.this.clear(i);
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+    }
+
+}
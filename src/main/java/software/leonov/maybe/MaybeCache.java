@@ -0,0 +1,605 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import software.leonov.maybe.MaybeCollectors.State;
+
+/**
+ * A bounded cache in front of a {@link MaybeLoader} which keeps all three outcomes of a load: a value, a {@code null}
+ * value ("known to be empty"), and an {@link Maybe#absent() absent} result ("not found"). Caching {@code null} and
+ * absent results, known as negative caching, saves repeated backend lookups for keys which have no value.
+ * <p>
+ * Each state has its own time-to-live, so negative results can be refreshed sooner than values. A state whose
+ * time-to-live is zero is never cached.
+ * <p>
+ * The cache is split into independently locked segments, each an access-ordered {@link LinkedHashMap} which evicts its
+ * least recently used entry once the segment is full. Loads are performed outside of the segment lock, so a slow loader
+ * never blocks lookups of other keys, but concurrent misses on the same key may each call the loader. A loaded result
+ * is only cached if its segment was not written to by {@link #put(Object, Object) put}, {@link #putAbsent(Object)
+ * putAbsent} or an invalidation while the load was in flight, so such a write is never overwritten by a stale result.
+ * The loaded result is still returned to the caller. Hit, load and
+ * eviction counts are kept in {@link LongAdder}s and reported by {@link #stats()} broken down by
+ * {@link MaybeCollectors.State state}.
+ * <p>
+ * This class is thread-safe. {@code null} keys are not permitted.
+ * 
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeCache<K, V> {
+
+    private static final Object NULL_VALUE   = new Object();
+    private static final Object ABSENT_VALUE = new Object();
+
+    private final MaybeLoader<? super K, V> loader;
+    private final Segment<K>[]              segments;
+    private final int                       shift;
+    private final long[]                    timeToLive; // in nanoseconds, indexed by State.ordinal()
+    private final LongSupplier              ticker;
+
+    private final LongAdder[] hits      = newAdders();
+    private final LongAdder[] loads     = newAdders();
+    private final LongAdder   misses    = new LongAdder();
+    private final LongAdder   evictions = new LongAdder();
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private MaybeCache(final Builder builder, final MaybeLoader<? super K, V> loader) {
+        this.loader = loader;
+        final long maximumSize = builder.maximumSize;
+        int        count       = 1;
+        while (count < builder.concurrencyLevel)
+            count <<= 1;
+        // a segment must be able to hold at least one entry, so there are never more segments than maximumSize
+        while (count > 1 && count > maximumSize)
+            count >>>= 1;
+        // the remainder is handed out one entry per segment so the capacities add up to exactly maximumSize
+        final long base      = maximumSize / count;
+        final long remainder = maximumSize % count;
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++)
+            segments[i] = new Segment<>((int) Math.min(base + (i < remainder ? 1 : 0), Integer.MAX_VALUE), evictions);
+        shift      = Integer.numberOfLeadingZeros(count - 1);
+        timeToLive = new long[] { builder.absentTimeToLive, builder.nullTimeToLive, builder.valueTimeToLive };
+        ticker     = builder.ticker;
+    }
+
+    /**
+     * Returns a new {@link Builder} with no maximum size and no expiration.
+     * 
+     * @return a new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a {@link Maybe} instance containing the possibly {@code null} value associated with the specified key or
+     * an {@link Maybe#absent() absent} instance if the loader found no value. The result is loaded and cached if it is
+     * not already cached or has expired.
+     * 
+     * @param key the key whose associated value is to be returned
+     * @return a {@link Maybe} instance containing the possibly {@code null} value associated with the specified key or
+     *         an {@link Maybe#absent() absent} instance if the loader found no value
+     */
+    public Maybe<V> get(final K key) {
+        requireNonNull(key, "key == null");
+        final Segment<K> segment    = segmentFor(key);
+        final long       generation = segment.generation;
+        final Object     cached     = lookup(segment, key);
+        if (cached != null)
+            return toMaybe(cached);
+        misses.increment();
+        final Maybe<V> loaded = requireNonNull(loader.load(key), "loader returned null");
+        store(segment, key, loaded, generation);
+        return loaded;
+    }
+
+    /**
+     * Returns the values associated with the specified keys in iteration order, as if by {@link #get(Object)}. All keys
+     * which are not cached are passed to {@link MaybeLoader#loadAll(List)} in a single call.
+     * 
+     * @param keys the keys whose associated values are to be returned
+     * @return a {@link MaybeArray} whose elements are the values associated with the corresponding keys
+     */
+    @SuppressWarnings("unchecked")
+    public MaybeArray<V> getAll(final Iterable<? extends K> keys) {
+        requireNonNull(keys, "keys == null");
+        final List<K>       all         = new ArrayList<>();
+        final List<K>       missing     = new ArrayList<>();
+        final List<Integer> indices     = new ArrayList<>();
+        final List<Long>    generations = new ArrayList<>();
+        final List<Object>  found       = new ArrayList<>();
+
+        for (final K key : keys) {
+            requireNonNull(key, "key == null");
+            final Segment<K> segment    = segmentFor(key);
+            final long       generation = segment.generation;
+            final Object     cached     = lookup(segment, key);
+            if (cached == null) {
+                missing.add(key);
+                indices.add(all.size());
+                generations.add(generation);
+            }
+            all.add(key);
+            found.add(cached);
+        }
+
+        final MaybeArray<V> results = new MaybeArray<>(all.size());
+        for (int i = 0; i < all.size(); i++) {
+            final Object cached = found.get(i);
+            if (cached != null && cached != ABSENT_VALUE)
+                results.set(i, cached == NULL_VALUE ? null : (V) cached);
+        }
+
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            final MaybeArray<V> loaded = requireNonNull(loader.loadAll(missing), "loader returned null");
+            if (loaded.length() != missing.size())
+                throw new IllegalStateException(
+                        "loadAll returned " + loaded.length() + " results for " + missing.size() + " keys");
+            for (int j = 0; j < missing.size(); j++) {
+                final K        key   = missing.get(j);
+                final Maybe<V> value = loaded.get(j);
+                store(segmentFor(key), key, value, generations.get(j));
+                if (value.isPresent())
+                    results.set(indices.get(j), value.orNull());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Discards any cached result for the specified key.
+     * 
+     * @param key the key whose cached result is to be discarded
+     */
+    public void invalidate(final K key) {
+        requireNonNull(key, "key == null");
+        final Segment<K> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.map.remove(key);
+            segment.generation++;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Discards all cached results.
+     */
+    public void invalidateAll() {
+        for (final Segment<K> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+                segment.generation++;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Caches the specified possibly {@code null} value for the specified key, replacing any cached result.
+     * 
+     * @param key   the key with which the specified value is to be associated
+     * @param value the possibly {@code null} value to be associated with the specified key
+     */
+    public void put(final K key, final V value) {
+        requireNonNull(key, "key == null");
+        write(key, Maybe.of(value));
+    }
+
+    /**
+     * Caches an {@link Maybe#absent() absent} result for the specified key, replacing any cached result.
+     * 
+     * @param key the key which is to be cached as absent
+     */
+    public void putAbsent(final K key) {
+        requireNonNull(key, "key == null");
+        write(key, Maybe.absent());
+    }
+
+    /**
+     * Returns the number of cached results, including any which have expired but have not yet been discarded.
+     * 
+     * @return the number of cached results
+     */
+    public long size() {
+        long size = 0;
+        for (final Segment<K> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     * 
+     * @return a snapshot of the statistics of this cache
+     */
+    public Stats stats() {
+        return new Stats(sum(hits), misses.sum(), sum(loads), evictions.sum());
+    }
+
+    // returns the cached value, one of the sentinels, or null if there is no live entry
+    private Object lookup(final Segment<K> segment, final K key) {
+        final Object value;
+        segment.lock.lock();
+        try {
+            final CacheEntry entry = segment.map.get(key);
+            if (entry == null)
+                return null;
+            if (ticker.getAsLong() - entry.writtenAt >= timeToLive[stateOf(entry.value).ordinal()]) {
+                segment.map.remove(key);
+                return null;
+            }
+            value = entry.value;
+        } finally {
+            segment.lock.unlock();
+        }
+        hits[stateOf(value).ordinal()].increment();
+        return value;
+    }
+
+    // caches a loaded result unless the segment was written to since the generation was read before the load
+    private void store(final Segment<K> segment, final K key, final Maybe<V> value, final long generation) {
+        final State state = State.of(value);
+        loads[state.ordinal()].increment();
+        if (timeToLive[state.ordinal()] <= 0)
+            return;
+        final CacheEntry entry = newEntry(value, state);
+        segment.lock.lock();
+        try {
+            if (segment.generation == generation)
+                segment.map.put(key, entry);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    // caches an explicitly written result and keeps any load in flight in the same segment from overwriting it
+    private void write(final K key, final Maybe<V> value) {
+        final State state = State.of(value);
+        loads[state.ordinal()].increment();
+        final Segment<K> segment = segmentFor(key);
+        final CacheEntry entry   = timeToLive[state.ordinal()] <= 0 ? null : newEntry(value, state);
+        segment.lock.lock();
+        try {
+            if (entry == null)
+                segment.map.remove(key);
+            else
+                segment.map.put(key, entry);
+            segment.generation++;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private CacheEntry newEntry(final Maybe<V> value, final State state) {
+        return new CacheEntry(state == State.ABSENT ? ABSENT_VALUE
+                : state == State.NULL ? NULL_VALUE : value.orNull(), ticker.getAsLong());
+    }
+
+    private Segment<K> segmentFor(final Object key) {
+        return segments.length == 1 ? segments[0] : segments[key.hashCode() * 0x9E3779B9 >>> shift];
+    }
+
+    private static State stateOf(final Object value) {
+        return value == ABSENT_VALUE ? State.ABSENT : value == NULL_VALUE ? State.NULL : State.PRESENT;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Maybe<V> toMaybe(final Object value) {
+        return value == ABSENT_VALUE ? Maybe.absent() : Maybe.of(value == NULL_VALUE ? null : (V) value);
+    }
+
+    private static LongAdder[] newAdders() {
+        final LongAdder[] adders = new LongAdder[State.values().length];
+        for (int i = 0; i < adders.length; i++)
+            adders[i] = new LongAdder();
+        return adders;
+    }
+
+    private static long[] sum(final LongAdder[] adders) {
+        final long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++)
+            sums[i] = adders[i].sum();
+        return sums;
+    }
+
+    private static final class CacheEntry {
+
+        private final Object value;
+        private final long   writtenAt;
+
+        private CacheEntry(final Object value, final long writtenAt) {
+            this.value     = value;
+            this.writtenAt = writtenAt;
+        }
+
+    }
+
+    private static final class Segment<K> {
+
+        private final ReentrantLock                lock = new ReentrantLock();
+        private final LinkedHashMap<K, CacheEntry> map;
+
+        private volatile long generation; // incremented under the lock by every explicit write or invalidation
+
+        private Segment(final int capacity, final LongAdder evictions) {
+            map = new LinkedHashMap<K, CacheEntry>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, CacheEntry> eldest) {
+                    if (size() <= capacity)
+                        return false;
+                    evictions.increment();
+                    return true;
+                }
+
+            };
+        }
+
+    }
+
+    /**
+     * A builder of {@link MaybeCache} instances. Values never expire and the cache is unbounded unless configured
+     * otherwise. {@code null} and absent results expire with values unless given their own time-to-live.
+     * 
+     * @author Zhenya Leonov
+     */
+    public static final class Builder {
+
+        private long         maximumSize      = Long.MAX_VALUE;
+        private int          concurrencyLevel = 16;
+        private long         valueTimeToLive  = Long.MAX_VALUE;
+        private long         nullTimeToLive   = -1;
+        private long         absentTimeToLive = -1;
+        private LongSupplier ticker           = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Returns a new {@link MaybeCache} which loads uncached results with the specified loader.
+         * 
+         * @param <K>    the type of keys
+         * @param <V>    the type of values
+         * @param loader the loader of uncached results
+         * @return a new {@link MaybeCache}
+         */
+        public <K, V> MaybeCache<K, V> build(final MaybeLoader<? super K, V> loader) {
+            requireNonNull(loader, "loader == null");
+            final Builder copy = new Builder();
+            copy.maximumSize      = maximumSize;
+            copy.concurrencyLevel = (int) Math.max(1, Math.min(concurrencyLevel, maximumSize));
+            copy.valueTimeToLive  = valueTimeToLive;
+            copy.nullTimeToLive   = nullTimeToLive < 0 ? valueTimeToLive : nullTimeToLive;
+            copy.absentTimeToLive = absentTimeToLive < 0 ? valueTimeToLive : absentTimeToLive;
+            copy.ticker           = ticker;
+            return new MaybeCache<>(copy, loader);
+        }
+
+        /**
+         * Sets the number of independently locked segments, which is rounded up to a power of two. The default is 16.
+         * 
+         * @param concurrencyLevel the number of segments
+         * @return this builder
+         * @throws IllegalArgumentException if {@code concurrencyLevel} is not positive or greater than {@code 1 << 16}
+         */
+        public Builder concurrencyLevel(final int concurrencyLevel) {
+            if (concurrencyLevel <= 0 || concurrencyLevel > 1 << 16)
+                throw new IllegalArgumentException("concurrencyLevel <= 0 || concurrencyLevel > 1 << 16");
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * Sets the time-to-live of cached {@link Maybe#absent() absent} results. A zero duration disables caching of
+         * absent results.
+         * 
+         * @param duration the time-to-live of cached absent results
+         * @return this builder
+         * @throws IllegalArgumentException if {@code duration} is negative
+         */
+        public Builder expireAbsentAfterWrite(final Duration duration) {
+            absentTimeToLive = toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Sets the time-to-live of cached values.
+         * 
+         * @param duration the time-to-live of cached values
+         * @return this builder
+         * @throws IllegalArgumentException if {@code duration} is negative
+         */
+        public Builder expireAfterWrite(final Duration duration) {
+            valueTimeToLive = toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Sets the time-to-live of cached {@code null} values. A zero duration disables caching of {@code null} values.
+         * 
+         * @param duration the time-to-live of cached {@code null} values
+         * @return this builder
+         * @throws IllegalArgumentException if {@code duration} is negative
+         */
+        public Builder expireNullAfterWrite(final Duration duration) {
+            nullTimeToLive = toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached results. The bound is divided among the segments, whose capacities add up
+         * to exactly {@code maximumSize}, and each segment evicts its least recently used entry once full. The number
+         * of segments is reduced if needed so that every segment can hold at least one entry.
+         * 
+         * @param maximumSize the maximum number of cached results
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maximumSize} is negative
+         */
+        public Builder maximumSize(final long maximumSize) {
+            if (maximumSize < 0)
+                throw new IllegalArgumentException("maximumSize < 0");
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the time source, in nanoseconds, used to expire cached results. The default is
+         * {@link System#nanoTime()}.
+         * 
+         * @param ticker the time source, in nanoseconds
+         * @return this builder
+         */
+        public Builder ticker(final LongSupplier ticker) {
+            this.ticker = requireNonNull(ticker, "ticker == null");
+            return this;
+        }
+
+        private static long toNanos(final Duration duration) {
+            requireNonNull(duration, "duration == null");
+            if (duration.isNegative())
+                throw new IllegalArgumentException("duration < 0");
+            try {
+                return duration.toNanos();
+            } catch (final ArithmeticException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+    }
+
+    /**
+     * An immutable snapshot of the statistics of a {@link MaybeCache}, with hits and loads broken down by the
+     * {@link MaybeCollectors.State state} of the result.
+     * 
+     * @author Zhenya Leonov
+     */
+    public static final class Stats {
+
+        private final long[] hits;
+        private final long   misses;
+        private final long[] loads;
+        private final long   evictions;
+
+        private Stats(final long[] hits, final long misses, final long[] loads, final long evictions) {
+            this.hits      = hits;
+            this.misses    = misses;
+            this.loads     = loads;
+            this.evictions = evictions;
+        }
+
+        /**
+         * Returns the number of entries evicted to stay within the maximum size. Expired entries are not counted.
+         * 
+         * @return the number of entries evicted to stay within the maximum size
+         */
+        public long evictionCount() {
+            return evictions;
+        }
+
+        /**
+         * Returns the number of lookups which found a cached result.
+         * 
+         * @return the number of lookups which found a cached result
+         */
+        public long hitCount() {
+            return hits[0] + hits[1] + hits[2];
+        }
+
+        /**
+         * Returns the number of lookups which found a cached result in the specified state.
+         * 
+         * @param state the state of the cached result
+         * @return the number of lookups which found a cached result in the specified state
+         */
+        public long hitCount(final State state) {
+            requireNonNull(state, "state == null");
+            return hits[state.ordinal()];
+        }
+
+        /**
+         * Returns the ratio of hits to lookups, or {@code 1.0} if there were no lookups.
+         * 
+         * @return the ratio of hits to lookups
+         */
+        public double hitRate() {
+            final long hitCount = hitCount();
+            final long total    = hitCount + misses;
+            return total == 0 ? 1.0 : (double) hitCount / total;
+        }
+
+        /**
+         * Returns the number of results in the specified state which were loaded or put into the cache.
+         * 
+         * @param state the state of the loaded result
+         * @return the number of results in the specified state which were loaded or put into the cache
+         */
+        public long loadCount(final State state) {
+            requireNonNull(state, "state == null");
+            return loads[state.ordinal()];
+        }
+
+        /**
+         * Returns the number of lookups which did not find a cached result.
+         * 
+         * @return the number of lookups which did not find a cached result
+         */
+        public long missCount() {
+            return misses;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[hits=" + toString(hits) + ", misses=" + misses + ", loads=" + toString(loads) + ", evictions="
+                    + evictions + "]";
+        }
+
+        private static String toString(final long[] counts) {
+            final StringBuilder sb = new StringBuilder().append('{');
+            for (final State state : State.values())
+                sb.append(state.ordinal() == 0 ? "" : ", ").append(state).append('=').append(counts[state.ordinal()]);
+            return sb.append('}').toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+import java.util.stream.Stream;
+
+/**
+ * Static utility methods which return {@link Collector}s producing or consuming {@link Maybe} instances. Unlike
+ * {@link Stream#findFirst()} and {@link Stream#reduce(BinaryOperator)}, which return an
+ * {@link java.util.Optional Optional} and cannot represent a {@code null} result, these collectors keep {@code null}
+ * elements distinct from <i>absent</i> results.
+ * <p>
+ * Every collector has a combiner which merges partial results in constant or linear time while respecting encounter
+ * order, so they can be used with parallel streams.
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeCollectors {
+
+    /**
+     * The three states of a {@link Maybe} instance.
+     */
+    public enum State {
+
+        /**
+         * The {@link Maybe#absent() absent} state.
+         */
+        ABSENT,
+
+        /**
+         * The {@link Maybe#isNull() null} state.
+         */
+        NULL,
+
+        /**
+         * The {@link Maybe#isPresent() present} and non-{@code null} state.
+         */
+        PRESENT;
+
+        /**
+         * Returns the state of the specified {@link Maybe} instance.
+         * 
+         * @param maybe the specified {@link Maybe} instance
+         * @return the state of the specified {@link Maybe} instance
+         */
+        public static State of(final Maybe<?> maybe) {
+            requireNonNull(maybe, "maybe == null");
+            return !maybe.isPresent() ? ABSENT : maybe.isNull() ? NULL : PRESENT;
+        }
+
+    }
+
+    private MaybeCollectors() {
+    }
+
+    /**
+     * Returns a {@code Collector} which counts the elements of a stream of {@link Maybe} instances in each
+     * {@link State}. The resulting map always contains a count for each of the three states.
+     * 
+     * @return a {@code Collector} which counts the elements of a stream of {@link Maybe} instances in each
+     *         {@link State}
+     */
+    public static Collector<Maybe<?>, ?, Map<State, Long>> countingByState() {
+        return Collector.<Maybe<?>, long[], Map<State, Long>>of(() -> new long[3],
+                (counts, maybe) -> counts[State.of(maybe).ordinal()]++, (left, right) -> {
+                    for (int i = 0; i < left.length; i++)
+                        left[i] += right[i];
+                    return left;
+                }, counts -> {
+                    final Map<State, Long> map = new EnumMap<>(State.class);
+                    for (final State state : State.values())
+                        map.put(state, counts[state.ordinal()]);
+                    return Collections.unmodifiableMap(map);
+                }, Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a {@code Collector} which returns the possibly {@code null} first element of the stream, or an
+     * {@link Maybe#absent() absent} instance if the stream is empty.
+     * 
+     * @implNote Unlike {@link Stream#findFirst()} a collector cannot short-circuit, so every element is visited.
+     * 
+     * @param <T> the type of elements
+     * @return a {@code Collector} which returns the first element of the stream
+     */
+    public static <T> Collector<T, ?, Maybe<T>> first() {
+        return Collector.<T, Box<T>, Maybe<T>>of(Box::new, (box, element) -> {
+            if (!box.isPresent)
+                box.set(element);
+        }, (left, right) -> left.isPresent ? left : right, Box::toMaybe);
+    }
+
+    /**
+     * Returns a {@code Collector} which returns the possibly {@code null} last element of the stream, or an
+     * {@link Maybe#absent() absent} instance if the stream is empty.
+     * 
+     * @param <T> the type of elements
+     * @return a {@code Collector} which returns the last element of the stream
+     */
+    public static <T> Collector<T, ?, Maybe<T>> last() {
+        return Collector.<T, Box<T>, Maybe<T>>of(Box::new, Box::set, (left, right) -> right.isPresent ? right : left,
+                Box::toMaybe);
+    }
+
+    /**
+     * Returns a {@code Collector} which returns the possibly {@code null} only element of the stream, or an
+     * {@link Maybe#absent() absent} instance if the stream is empty. The collector fails if the stream contains more
+     * than one element.
+     * 
+     * @param <T> the type of elements
+     * @return a {@code Collector} which returns the only element of the stream
+     * @throws IllegalArgumentException if the stream contains more than one element
+     */
+    public static <T> Collector<T, ?, Maybe<T>> only() {
+        return Collector.<T, Box<T>, Maybe<T>>of(Box::new, (box, element) -> {
+            if (box.isPresent)
+                throw new IllegalArgumentException("more than one element");
+            box.set(element);
+        }, (left, right) -> {
+            if (left.isPresent && right.isPresent)
+                throw new IllegalArgumentException("more than one element");
+            return left.isPresent ? left : right;
+        }, Box::toMaybe);
+    }
+
+    /**
+     * Returns a {@code Collector} which partitions a stream of {@link Maybe} instances by {@link State}. The resulting
+     * map always contains a (possibly empty) list for each of the three states, in encounter order.
+     * 
+     * @param <T> the type of values
+     * @return a {@code Collector} which partitions a stream of {@link Maybe} instances by {@link State}
+     */
+    public static <T> Collector<Maybe<T>, ?, Map<State, List<Maybe<T>>>> partitioningByState() {
+        return Collector.<Maybe<T>, Map<State, List<Maybe<T>>>>of(() -> {
+            final Map<State, List<Maybe<T>>> map = new EnumMap<>(State.class);
+            for (final State state : State.values())
+                map.put(state, new ArrayList<>());
+            return map;
+        }, (map, maybe) -> map.get(State.of(maybe)).add(maybe), (left, right) -> {
+            for (final State state : State.values())
+                left.get(state).addAll(right.get(state));
+            return left;
+        });
+    }
+
+    /**
+     * Returns a {@code Collector} which reduces the {@link Maybe#isPresent() present} values of a stream of
+     * {@link Maybe} instances using the specified operator, which receives possibly {@code null} values.
+     * {@link Maybe#absent() Absent} elements act as the identity: they are skipped, and the result is
+     * {@link Maybe#absent() absent} if no element is present.
+     * 
+     * @param <T>      the type of values
+     * @param operator an associative operator used to combine values
+     * @return a {@code Collector} which reduces the present values of the stream
+     */
+    public static <T> Collector<Maybe<? extends T>, ?, Maybe<T>> reducing(final BinaryOperator<T> operator) {
+        requireNonNull(operator, "operator == null");
+        return Collector.<Maybe<? extends T>, Box<T>, Maybe<T>>of(Box::new, (box, maybe) -> {
+            if (maybe.isPresent())
+                box.set(box.isPresent ? operator.apply(box.value, maybe.orNull()) : maybe.orNull());
+        }, (left, right) -> {
+            if (!left.isPresent)
+                return right;
+            if (right.isPresent)
+                left.set(operator.apply(left.value, right.value));
+            return left;
+        }, Box::toMaybe);
+    }
+
+    /**
+     * Returns a {@code Collector} which accumulates the possibly {@code null} values of the
+     * {@link Maybe#isPresent() present} elements of a stream of {@link Maybe} instances into a {@link List}, in
+     * encounter order. Absent elements are skipped.
+     * 
+     * @param <T> the type of values
+     * @return a {@code Collector} which accumulates the present values of the stream into a {@link List}
+     */
+    public static <T> Collector<Maybe<? extends T>, ?, List<T>> toListOfPresent() {
+        return Collector.<Maybe<? extends T>, List<T>>of(ArrayList::new, (list, maybe) -> {
+            if (maybe.isPresent())
+                list.add(maybe.orNull());
+        }, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    // a mutable Maybe used as the accumulation container
+    private static final class Box<T> {
+
+        private T       value;
+        private boolean isPresent;
+
+        private void set(final T value) {
+            this.value = value;
+            isPresent  = true;
+        }
+
+        private Maybe<T> toMaybe() {
+            return isPresent ? Maybe.of(value) : Maybe.absent();
+        }
+
+    }
+
+}
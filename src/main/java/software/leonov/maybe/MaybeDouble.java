@@ -0,0 +1,312 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * A primitive specialization of {@link Maybe} for {@code double} values. Unlike {@code Maybe<Double>} a {@code double}
+ * value is never boxed, and unlike {@code Maybe} a {@code MaybeDouble} can never contain a {@code null} value.
+ * <p>
+ * This is a <a href="https://docs.oracle.com/javase/8/docs/api/java/lang/doc-files/ValueBased.html" target=
+ * "_blank">value-based</a> class; use of identity-sensitive operations (including reference equality, identity hash
+ * code, or synchronization) on instances of this class may have unpredictable results and should be avoided.
+ * 
+ * @implNote Instances for the integral values between {@code -128} and {@code 127} (inclusive) are cached.
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeDouble {
+
+    private static final MaybeDouble ABSENT = new MaybeDouble();
+
+    private static final int           LOW   = -128;
+    private static final int           HIGH  = 127;
+    private static final MaybeDouble[] CACHE = new MaybeDouble[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new MaybeDouble(LOW + i);
+    }
+
+    private final double  value;
+    private final boolean isPresent;
+
+    private MaybeDouble() {
+        value     = 0;
+        isPresent = false;
+    }
+
+    private MaybeDouble(final double value) {
+        this.value = value;
+        isPresent  = true;
+    }
+
+    /**
+     * Returns a {@link MaybeDouble} instance which contains no value.
+     * 
+     * @return a {@link MaybeDouble} instance which contains no value
+     */
+    public static MaybeDouble absent() {
+        return ABSENT;
+    }
+
+    /**
+     * Returns a {@link MaybeDouble} instance which contains the specified value.
+     * 
+     * @param value the specified value
+     * @return a {@link MaybeDouble} instance which contains the specified value
+     */
+    public static MaybeDouble of(final double value) {
+        final int i = (int) value;
+        // -0.0 == 0 but must not be conflated with 0.0
+        if (i == value && i >= LOW && i <= HIGH && (i != 0 || Double.doubleToRawLongBits(value) == 0L))
+            return CACHE[i - LOW];
+        return new MaybeDouble(value);
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or the {@code defaultValue} otherwise.
+     * 
+     * @param defaultValue the default value to return if no value is {@link #isPresent() present}
+     * @return the value if it is {@link #isPresent() present} or the {@code defaultValue} otherwise
+     */
+    public double defaultTo(final double defaultValue) {
+        return isPresent ? value : defaultValue;
+    }
+
+    /**
+     * Returns {@code this} {@link MaybeDouble} instance if the value is {@link #isPresent() present} and satisfies the
+     * given {@code DoublePredicate} or an {@link #absent() absent} instance otherwise.
+     *
+     * @param predicate the predicate to apply to the value if is present
+     * @return {@code this} {@link MaybeDouble} instance if the value is {@link #isPresent() present} and satisfies the
+     *         given {@code DoublePredicate} or an {@link #absent() absent} instance otherwise
+     */
+    public MaybeDouble filter(final DoublePredicate predicate) {
+        requireNonNull(predicate, "predicate == null");
+        if (!isPresent)
+            return this;
+        else
+            return predicate.test(value) ? this : absent();
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or throws a {@code NoSuchElementException} otherwise.
+     * 
+     * @return the value if it is {@link #isPresent() present} or throws a {@code NoSuchElementException} otherwise
+     * @throws NoSuchElementException if no value is {@link #isPresent() present}
+     */
+    public double get() {
+        if (isPresent)
+            return value;
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * {@link DoubleConsumer#accept(double) Invokes} the specified {@code DoubleConsumer} if the value is
+     * {@link #isPresent() present}.
+     * 
+     * @param consumer the specified consumer
+     * @return {@code this} {@link MaybeDouble} instance
+     */
+    public MaybeDouble ifPresent(final DoubleConsumer consumer) {
+        requireNonNull(consumer, "consumer == null");
+        if (isPresent)
+            consumer.accept(value);
+        return this;
+    }
+
+    /**
+     * Returns {@code true} if the value is present or {@code false} otherwise.
+     * 
+     * @return {@code true} if the value is present or {@code false} otherwise
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * Returns a {@link MaybeDouble} instance which contains the result of applying the given
+     * {@code DoubleUnaryOperator} to the current value if it is {@link #isPresent() present} or an
+     * {@link #absent() absent} instance otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeDouble} instance which contains the result of applying the given
+     *         {@code DoubleUnaryOperator} to the current value if it is {@link #isPresent() present} or an
+     *         {@link #absent() absent} instance otherwise
+     */
+    public MaybeDouble map(final DoubleUnaryOperator function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? of(function.applyAsDouble(value)) : this;
+    }
+
+    /**
+     * Returns a {@link MaybeInt} instance which contains the result of applying the given {@code DoubleToIntFunction}
+     * to the current value if it is {@link #isPresent() present} or an {@link MaybeInt#absent() absent} instance
+     * otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeInt} instance which contains the result of applying the given {@code DoubleToIntFunction}
+     *         to the current value if it is {@link #isPresent() present} or an {@link MaybeInt#absent() absent}
+     *         instance otherwise
+     */
+    public MaybeInt mapToInt(final DoubleToIntFunction function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? MaybeInt.of(function.applyAsInt(value)) : MaybeInt.absent();
+    }
+
+    /**
+     * Returns a {@link MaybeLong} instance which contains the result of applying the given {@code DoubleToLongFunction}
+     * to the current value if it is {@link #isPresent() present} or an {@link MaybeLong#absent() absent} instance
+     * otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeLong} instance which contains the result of applying the given {@code DoubleToLongFunction}
+     *         to the current value if it is {@link #isPresent() present} or an {@link MaybeLong#absent() absent}
+     *         instance otherwise
+     */
+    public MaybeLong mapToLong(final DoubleToLongFunction function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? MaybeLong.of(function.applyAsLong(value)) : MaybeLong.absent();
+    }
+
+    /**
+     * Returns a {@link Maybe} instance which contains the possibly {@code null} result of applying the given
+     * {@code DoubleFunction} to the current value if it is {@link #isPresent() present} or an
+     * {@link Maybe#absent() absent} instance otherwise.
+     * 
+     * @param <U>      the type of the result of the mapping function
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link Maybe} instance which contains the possibly {@code null} result of applying the given
+     *         {@code DoubleFunction} to the current value if it is {@link #isPresent() present} or an
+     *         {@link Maybe#absent() absent} instance otherwise
+     */
+    public <U> Maybe<U> mapToObj(final DoubleFunction<? extends U> function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? Maybe.of(function.apply(value)) : Maybe.absent();
+    }
+
+    /**
+     * Returns {@code this} {@link MaybeDouble} instance if the value is {@link #isPresent() present} or the
+     * {@code other} instance otherwise.
+     * 
+     * @param other the {@link MaybeDouble} instance to return if the value is not {@link #isPresent() present}
+     * @return {@code this} {@link MaybeDouble} instance if the value is {@link #isPresent() present} or the
+     *         {@code other} instance otherwise
+     */
+    public MaybeDouble or(final MaybeDouble other) {
+        requireNonNull(other, "other == null");
+        return isPresent ? this : other;
+    }
+
+    /**
+     * {@link Runnable#run() Invokes} the specified {@code Runnable} if the value is not {@link #isPresent() present}.
+     * 
+     * @param runnable the specified runnable
+     * @return {@code this} {@link MaybeDouble} instance
+     */
+    public MaybeDouble otherwise(final Runnable runnable) {
+        requireNonNull(runnable, "runnable == null");
+        if (!isPresent)
+            runnable.run();
+        return this;
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or {@link DoubleSupplier#getAsDouble()} otherwise.
+     * 
+     * @param supplier the {@code DoubleSupplier} whose result is returned if no value is {@link #isPresent() present}
+     * @return the value if it is {@link #isPresent() present} or {@link DoubleSupplier#getAsDouble()} otherwise
+     */
+    public double orElseGet(final DoubleSupplier supplier) {
+        requireNonNull(supplier, "supplier == null");
+        return isPresent ? value : supplier.getAsDouble();
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or throws an exception produced by the specified
+     * {@link Supplier} otherwise.
+     * 
+     * @param <X>      the type of exception to be thrown
+     * @param supplier the exception supplier
+     * @return the value if it is {@link #isPresent() present}
+     * @throws X if the value is not {@link #isPresent() present}
+     */
+    public <X extends Throwable> double orElseThrow(final Supplier<? extends X> supplier) throws X {
+        requireNonNull(supplier, "supplier == null");
+        if (isPresent)
+            return value;
+        else
+            throw requireNonNull(supplier.get(), "Supplier.get() == null");
+    }
+
+    /**
+     * Returns a sequential {@link DoubleStream} containing the value if it is {@link #isPresent() present} or an
+     * {@link DoubleStream#empty() empty} {@code DoubleStream} otherwise.
+     *
+     * @return a sequential {@link DoubleStream} containing the value if it is {@link #isPresent() present} or an
+     *         {@link DoubleStream#empty() empty} {@code DoubleStream} otherwise
+     */
+    public DoubleStream stream() {
+        return isPresent ? DoubleStream.of(value) : DoubleStream.empty();
+    }
+
+    /**
+     * Returns this {@link MaybeDouble} as a Java {@link OptionalDouble}.
+     * 
+     * @return {@code this} {@link MaybeDouble} as a Java {@link OptionalDouble}
+     */
+    public OptionalDouble toOptional() {
+        return isPresent ? OptionalDouble.of(value) : OptionalDouble.empty();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+
+        if (!(obj instanceof MaybeDouble))
+            return false;
+
+        final MaybeDouble other = (MaybeDouble) obj;
+
+        return isPresent == other.isPresent && Double.compare(value, other.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return isPresent ? Double.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return isPresent ? "MaybeDouble[" + value + "]" : "MaybeDouble[]";
+    }
+
+}
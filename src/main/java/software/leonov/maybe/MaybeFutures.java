@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Static utility methods which combine {@link CompletableFuture}s of {@link Maybe} instances without blocking. Unlike
+ * a {@code CompletableFuture<Optional<T>>}, a {@code CompletableFuture<Maybe<T>>} keeps a {@code null} result distinct
+ * from an <i>absent</i> one.
+ * <p>
+ * The non-async combinators run in the thread which completes the future, or in the calling thread if the future is
+ * already complete. The async combinators only hand work to an {@link Executor} when there is work to do: an absent
+ * result is passed on in the completing thread without a thread hop.
+ * {@link #zip(CompletableFuture, CompletableFuture, BiFunction) zip} and {@link #allOf(Collection) allOf} complete as
+ * soon as any input is absent, without waiting for the others, and {@link #anyPresent(Collection) anyPresent} completes
+ * as soon as any input is present.
+ * <p>
+ * Methods which take no {@code Executor} run async work in the
+ * {@link CompletableFuture#supplyAsync(Supplier) default asynchronous execution facility}. On Java 21 and later
+ * {@link #virtualThreadExecutor()} provides an executor which runs each task in a new virtual thread.
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeFutures {
+
+    private static final Maybe<Executor> VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private MaybeFutures() {
+    }
+
+    /**
+     * Returns a future which completes with all the possibly {@code null} values of the specified futures, in order,
+     * if they all complete with a {@link Maybe#isPresent() present} result. The returned future completes with an
+     * {@link Maybe#absent() absent} instance as soon as any of the specified futures completes with one, and
+     * exceptionally as soon as any of them completes exceptionally.
+     * 
+     * @param <T>     the type of values
+     * @param futures the specified futures
+     * @return a future which completes with all the values of the specified futures or an {@link Maybe#absent() absent}
+     *         instance
+     */
+    public static <T> CompletableFuture<Maybe<List<T>>> allOf(
+            final Collection<? extends CompletableFuture<Maybe<T>>> futures) {
+        requireNonNull(futures, "futures == null");
+        final List<CompletableFuture<Maybe<T>>> list = new ArrayList<>(futures);
+
+        for (final CompletableFuture<Maybe<T>> future : list)
+            if (isAbsent(future))
+                return CompletableFuture.completedFuture(Maybe.absent());
+
+        if (list.isEmpty())
+            return CompletableFuture.completedFuture(Maybe.of(Collections.emptyList()));
+
+        final CompletableFuture<Maybe<List<T>>> result    = new CompletableFuture<>();
+        final AtomicInteger                     remaining = new AtomicInteger(list.size());
+
+        for (final CompletableFuture<Maybe<T>> future : list)
+            future.whenComplete((maybe, e) -> {
+                if (e != null)
+                    result.completeExceptionally(e);
+                else if (!maybe.isPresent())
+                    result.complete(Maybe.absent());
+                else if (remaining.decrementAndGet() == 0) {
+                    final List<T> values = new ArrayList<>(list.size());
+                    for (final CompletableFuture<Maybe<T>> f : list)
+                        values.add(f.join().orNull());
+                    result.complete(Maybe.of(values));
+                }
+            });
+
+        return result;
+    }
+
+    /**
+     * Returns a future which completes with the result of the first of the specified futures to complete with a
+     * {@link Maybe#isPresent() present} result. If none does, the returned future completes with an
+     * {@link Maybe#absent() absent} instance, or exceptionally if any of the specified futures completed exceptionally.
+     * 
+     * @param <T>     the type of values
+     * @param futures the specified futures
+     * @return a future which completes with the first {@link Maybe#isPresent() present} result of the specified futures
+     */
+    public static <T> CompletableFuture<Maybe<T>> anyPresent(
+            final Collection<? extends CompletableFuture<Maybe<T>>> futures) {
+        requireNonNull(futures, "futures == null");
+        final List<CompletableFuture<Maybe<T>>> list = new ArrayList<>(futures);
+
+        for (final CompletableFuture<Maybe<T>> future : list)
+            if (isPresent(future))
+                return CompletableFuture.completedFuture(future.join());
+
+        if (list.isEmpty())
+            return CompletableFuture.completedFuture(Maybe.absent());
+
+        final CompletableFuture<Maybe<T>> result    = new CompletableFuture<>();
+        final AtomicInteger               remaining = new AtomicInteger(list.size());
+        final AtomicReference<Throwable>  failure   = new AtomicReference<>();
+
+        for (final CompletableFuture<Maybe<T>> future : list)
+            future.whenComplete((maybe, e) -> {
+                if (e == null && maybe.isPresent())
+                    result.complete(maybe);
+                else {
+                    if (e != null)
+                        failure.compareAndSet(null, e);
+                    if (remaining.decrementAndGet() == 0) {
+                        if (failure.get() != null)
+                            result.completeExceptionally(failure.get());
+                        else
+                            result.complete(Maybe.absent());
+                    }
+                }
+            });
+
+        return result;
+    }
+
+    /**
+     * Returns a future which completes with the result of the specified future {@link Maybe#filter(Predicate) filtered}
+     * by the specified predicate.
+     * 
+     * @param <T>       the type of values
+     * @param future    the specified future
+     * @param predicate the predicate to apply to the value if it is {@link Maybe#isPresent() present}
+     * @return a future which completes with the filtered result of the specified future
+     */
+    public static <T> CompletableFuture<Maybe<T>> filter(final CompletableFuture<Maybe<T>> future,
+            final Predicate<? super T> predicate) {
+        requireNonNull(future, "future == null");
+        requireNonNull(predicate, "predicate == null");
+        return future.thenApply(maybe -> maybe.filter(predicate));
+    }
+
+    /**
+     * Returns a future which completes with the result of the specified future {@link Maybe#map(Function) mapped} by
+     * the specified function, which runs in the thread completing the future.
+     * 
+     * @param <T>      the type of values
+     * @param <U>      the type of mapped values
+     * @param future   the specified future
+     * @param function the mapping function to apply to the value if it is {@link Maybe#isPresent() present}
+     * @return a future which completes with the mapped result of the specified future
+     */
+    public static <T, U> CompletableFuture<Maybe<U>> map(final CompletableFuture<Maybe<T>> future,
+            final Function<? super T, ? extends U> function) {
+        requireNonNull(future, "future == null");
+        requireNonNull(function, "function == null");
+        return future.thenApply(maybe -> maybe.map(function));
+    }
+
+    /**
+     * Returns a future which completes with the result of the specified future {@link Maybe#map(Function) mapped} by
+     * the specified function, which runs in the {@link CompletableFuture#supplyAsync(Supplier) default asynchronous
+     * execution facility}. An {@link Maybe#absent() absent} result is passed on without submitting a task.
+     * 
+     * @param <T>      the type of values
+     * @param <U>      the type of mapped values
+     * @param future   the specified future
+     * @param function the mapping function to apply to the value if it is {@link Maybe#isPresent() present}
+     * @return a future which completes with the mapped result of the specified future
+     */
+    public static <T, U> CompletableFuture<Maybe<U>> mapAsync(final CompletableFuture<Maybe<T>> future,
+            final Function<? super T, ? extends U> function) {
+        requireNonNull(future, "future == null");
+        requireNonNull(function, "function == null");
+        if (isAbsent(future))
+            return CompletableFuture.completedFuture(Maybe.absent());
+        return future.thenCompose(maybe -> maybe.isPresent()
+                ? CompletableFuture.supplyAsync(() -> maybe.map(function))
+                : CompletableFuture.completedFuture(Maybe.absent()));
+    }
+
+    /**
+     * Returns a future which completes with the result of the specified future {@link Maybe#map(Function) mapped} by
+     * the specified function, which runs on the specified executor. An {@link Maybe#absent() absent} result is passed
+     * on without submitting a task to the executor.
+     * 
+     * @param <T>      the type of values
+     * @param <U>      the type of mapped values
+     * @param future   the specified future
+     * @param function the mapping function to apply to the value if it is {@link Maybe#isPresent() present}
+     * @param executor the executor to run the mapping function on
+     * @return a future which completes with the mapped result of the specified future
+     */
+    public static <T, U> CompletableFuture<Maybe<U>> mapAsync(final CompletableFuture<Maybe<T>> future,
+            final Function<? super T, ? extends U> function, final Executor executor) {
+        requireNonNull(future, "future == null");
+        requireNonNull(function, "function == null");
+        requireNonNull(executor, "executor == null");
+        if (isAbsent(future))
+            return CompletableFuture.completedFuture(Maybe.absent());
+        return future.thenCompose(maybe -> maybe.isPresent()
+                ? CompletableFuture.supplyAsync(() -> maybe.map(function), executor)
+                : CompletableFuture.completedFuture(Maybe.absent()));
+    }
+
+    /**
+     * Returns a future which completes with the result of the specified future if it is
+     * {@link Maybe#isPresent() present}, or with the result of the future returned by the specified supplier otherwise.
+     * The supplier is only called if the result is {@link Maybe#absent() absent}.
+     * 
+     * @param <T>         the type of values
+     * @param future      the specified future
+     * @param alternative the supplier of the alternative future
+     * @return a future which completes with the result of the specified future or the alternative future
+     */
+    public static <T> CompletableFuture<Maybe<T>> or(final CompletableFuture<Maybe<T>> future,
+            final Supplier<? extends CompletableFuture<Maybe<T>>> alternative) {
+        requireNonNull(future, "future == null");
+        requireNonNull(alternative, "alternative == null");
+        return future.thenCompose(maybe -> maybe.isPresent() ? CompletableFuture.completedFuture(maybe)
+                : requireNonNull(alternative.get(), "alternative.get() == null"));
+    }
+
+    /**
+     * Returns a future which completes with the possibly {@code null} value of the specified future if it is
+     * {@link Maybe#isPresent() present}, or with the value returned by the specified supplier, which runs in the
+     * {@link CompletableFuture#supplyAsync(Supplier) default asynchronous execution facility}, otherwise.
+     * 
+     * @param <T>      the type of values
+     * @param future   the specified future
+     * @param supplier the supplier of the default value
+     * @return a future which completes with the value of the specified future or the supplied default value
+     */
+    public static <T> CompletableFuture<T> orElseGetAsync(final CompletableFuture<Maybe<T>> future,
+            final Supplier<? extends T> supplier) {
+        requireNonNull(future, "future == null");
+        requireNonNull(supplier, "supplier == null");
+        return future.thenCompose(maybe -> maybe.isPresent() ? CompletableFuture.completedFuture(maybe.orNull())
+                : CompletableFuture.supplyAsync(supplier::get));
+    }
+
+    /**
+     * Returns a future which completes with the possibly {@code null} value of the specified future if it is
+     * {@link Maybe#isPresent() present}, or with the value returned by the specified supplier, which runs on the
+     * specified executor, otherwise. A {@link Maybe#isPresent() present} value is passed on without submitting a task
+     * to the executor.
+     * 
+     * @param <T>      the type of values
+     * @param future   the specified future
+     * @param supplier the supplier of the default value
+     * @param executor the executor to run the supplier on
+     * @return a future which completes with the value of the specified future or the supplied default value
+     */
+    public static <T> CompletableFuture<T> orElseGetAsync(final CompletableFuture<Maybe<T>> future,
+            final Supplier<? extends T> supplier, final Executor executor) {
+        requireNonNull(future, "future == null");
+        requireNonNull(supplier, "supplier == null");
+        requireNonNull(executor, "executor == null");
+        return future.thenCompose(maybe -> maybe.isPresent() ? CompletableFuture.completedFuture(maybe.orNull())
+                : CompletableFuture.supplyAsync(supplier::get, executor));
+    }
+
+    /**
+     * Returns an {@link Executor} which runs each task in a new virtual thread, or an {@link Maybe#absent() absent}
+     * instance if the running JVM does not support virtual threads.
+     * 
+     * @implNote Virtual threads are looked up reflectively, so this library keeps a single Java 8 compatible binary.
+     * 
+     * @return an {@link Executor} which runs each task in a new virtual thread, or an {@link Maybe#absent() absent}
+     *         instance if the running JVM does not support virtual threads
+     */
+    public static Maybe<Executor> virtualThreadExecutor() {
+        return VIRTUAL_THREAD_EXECUTOR;
+    }
+
+    /**
+     * Returns a future which completes with the result of applying the specified function to the possibly {@code null}
+     * values of the specified futures if both are {@link Maybe#isPresent() present}. The returned future completes with
+     * an {@link Maybe#absent() absent} instance as soon as either future completes with one, without waiting for the
+     * other.
+     * 
+     * @param <T>      the type of values of the first future
+     * @param <U>      the type of values of the second future
+     * @param <R>      the type of the result
+     * @param first    the first future
+     * @param second   the second future
+     * @param function the function to apply to both values
+     * @return a future which completes with the result of applying the function to both values or an
+     *         {@link Maybe#absent() absent} instance
+     */
+    public static <T, U, R> CompletableFuture<Maybe<R>> zip(final CompletableFuture<Maybe<T>> first,
+            final CompletableFuture<Maybe<U>> second, final BiFunction<? super T, ? super U, ? extends R> function) {
+        requireNonNull(first, "first == null");
+        requireNonNull(second, "second == null");
+        requireNonNull(function, "function == null");
+
+        if (isAbsent(first) || isAbsent(second))
+            return CompletableFuture.completedFuture(Maybe.absent());
+
+        final CompletableFuture<Maybe<R>> result = new CompletableFuture<>();
+
+        first.thenAccept(maybe -> {
+            if (!maybe.isPresent())
+                result.complete(Maybe.absent());
+        });
+        second.thenAccept(maybe -> {
+            if (!maybe.isPresent())
+                result.complete(Maybe.absent());
+        });
+        first.thenCombine(second, (a, b) -> a.isPresent() && b.isPresent()
+                ? Maybe.<R>of(function.apply(a.orNull(), b.orNull()))
+                : Maybe.<R>absent()).whenComplete((maybe, e) -> {
+                    if (e != null)
+                        result.completeExceptionally(e);
+                    else
+                        result.complete(maybe);
+                });
+
+        return result;
+    }
+
+    // true if the future has already completed normally with an absent result
+    private static boolean isAbsent(final CompletableFuture<? extends Maybe<?>> future) {
+        return future.isDone() && !future.isCompletedExceptionally() && !future.join().isPresent();
+    }
+
+    // true if the future has already completed normally with a present result
+    private static boolean isPresent(final CompletableFuture<? extends Maybe<?>> future) {
+        return future.isDone() && !future.isCompletedExceptionally() && future.join().isPresent();
+    }
+
+    private static Maybe<Executor> findVirtualThreadExecutor() {
+        try {
+            final Object        builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Method        factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            final ThreadFactory threads = (ThreadFactory) factory.invoke(builder);
+            return Maybe.of(task -> threads.newThread(task).start());
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            // not available, or a preview feature which is not enabled
+            return Maybe.absent();
+        }
+    }
+
+}
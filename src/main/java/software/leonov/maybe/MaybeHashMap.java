@@ -0,0 +1,534 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * A hash table based {@link Map} implementation which permits {@code null} keys and values, and can look up a mapping
+ * as a {@link Maybe} in a single probe. Unlike {@link Map#get(Object)}, the {@link #getMaybe(Object)} method tells a
+ * key which is mapped to {@code null} apart from a key which is not in the map at all.
+ * <p>
+ * This map uses open addressing with linear probing over a single flat array of alternating keys and values, instead
+ * of allocating an entry object for every mapping. A parallel array of key hashes lets a probe skip non-matching slots
+ * without touching their keys. Removed mappings leave a tombstone in the key slot, so a key mapped to {@code null} (a
+ * live key slot holding a {@code null} value) is never confused with a removed or missing key.
+ * <p>
+ * The table is kept at most half full, so the footprint depends on where the size falls between two resizes. With
+ * compressed references it ranges from about 30% smaller than a {@code HashMap} with the same mappings just before a
+ * resize to about 15% larger just after one.
+ * <p>
+ * Like {@link java.util.HashMap HashMap} this implementation is not synchronized, makes no guarantees as to the
+ * iteration order, and its iterators are <i>fail-fast</i>.
+ * 
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeHashMap<K, V> extends AbstractMap<K, V> {
+
+    // stands in for the null key
+    private static final Object NULL_KEY = new Object();
+
+    // marks the key slot of a removed mapping
+    private static final Object TOMBSTONE = new Object();
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+    // keys at even indexes, values at the following odd indexes; a null key slot is free
+    private Object[] table;
+    // the hash of the key in each slot, so that probing compares keys only on a hash match; 0 marks a free slot
+    private int[]    hashes;
+    private int      size;
+    private int      tombstones;
+    private int      modCount;
+
+    private transient Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Creates a new empty {@link MaybeHashMap}.
+     */
+    public MaybeHashMap() {
+        table  = new Object[DEFAULT_CAPACITY * 2];
+        hashes = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a new empty {@link MaybeHashMap} which can hold the specified number of mappings without resizing.
+     * 
+     * @param expectedSize the expected number of mappings
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public MaybeHashMap(final int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("expectedSize < 0");
+        final int capacity = capacityFor(expectedSize);
+        table  = new Object[capacity * 2];
+        hashes = new int[capacity];
+    }
+
+    /**
+     * Creates a new {@link MaybeHashMap} containing the same mappings as the specified map.
+     * 
+     * @param map the specified map
+     */
+    public MaybeHashMap(final Map<? extends K, ? extends V> map) {
+        this(requireNonNull(map, "map == null").size());
+        putAll(map);
+    }
+
+    /**
+     * Returns a {@link Maybe} instance containing the possibly {@code null} value to which the specified key is mapped
+     * or an {@link Maybe#absent() absent} instance if this map contains no mapping for the key.
+     * 
+     * @param key the key whose associated value is to be returned
+     * @return a {@link Maybe} instance containing the possibly {@code null} value to which the specified key is mapped
+     *         or an {@link Maybe#absent() absent} instance if this map contains no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public Maybe<V> getMaybe(final Object key) {
+        final int i = indexOf(key);
+        return i < 0 ? Maybe.absent() : Maybe.of((V) table[i + 1]);
+    }
+
+    /**
+     * Associates the specified value with the specified key if the key is not already in this map. Unlike
+     * {@link #putIfAbsent(Object, Object)}, a key which is mapped to {@code null} is considered to be in the map.
+     * 
+     * @param key   the key with which the specified value is to be associated
+     * @param value the possibly {@code null} value to be associated with the specified key
+     * @return a {@link Maybe} instance containing the possibly {@code null} value already mapped to the key or an
+     *         {@link Maybe#absent() absent} instance if the specified value was added
+     */
+    @SuppressWarnings("unchecked")
+    public Maybe<V> putIfAbsentMaybe(final K key, final V value) {
+        final int i = probe(key);
+        if (i >= 0)
+            return Maybe.of((V) table[i + 1]);
+        insert(~i, key, value);
+        return Maybe.absent();
+    }
+
+    /**
+     * Removes the mapping for the specified key from this map if present.
+     * 
+     * @param key the key whose mapping is to be removed
+     * @return a {@link Maybe} instance containing the possibly {@code null} value previously mapped to the key or an
+     *         {@link Maybe#absent() absent} instance if there was no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public Maybe<V> removeMaybe(final Object key) {
+        final int i = indexOf(key);
+        if (i < 0)
+            return Maybe.absent();
+        final V value = (V) table[i + 1];
+        delete(i);
+        return Maybe.of(value);
+    }
+
+    /**
+     * Computes a new mapping for the specified key from its current mapping. The remapping function receives the key
+     * and the current value as a {@link Maybe}, which is {@link Maybe#absent() absent} if there is no mapping. If the
+     * function returns an {@link Maybe#absent() absent} instance the mapping is removed (or remains absent); otherwise
+     * the key is mapped to the possibly {@code null} value it contains.
+     * <p>
+     * Unlike {@link #compute(Object, BiFunction)}, a {@code null} result is a valid value rather than a request to
+     * remove the mapping, and the table is only probed once.
+     * 
+     * @param key      the key with which the computed value is to be associated
+     * @param function the remapping function
+     * @return the {@link Maybe} instance returned by the remapping function
+     * @throws ConcurrentModificationException if the remapping function modifies this map
+     */
+    @SuppressWarnings("unchecked")
+    public Maybe<V> computeMaybe(final K key,
+            final BiFunction<? super K, ? super Maybe<V>, ? extends Maybe<? extends V>> function) {
+        requireNonNull(function, "function == null");
+
+        final int      i        = probe(key);
+        final Maybe<V> current  = i >= 0 ? Maybe.of((V) table[i + 1]) : Maybe.absent();
+        final int      expected = modCount;
+        final Maybe<V> result   = (Maybe<V>) requireNonNull(function.apply(key, current), "function.apply() == null");
+
+        if (modCount != expected)
+            throw new ConcurrentModificationException();
+
+        if (result.isPresent()) {
+            if (i >= 0)
+                table[i + 1] = result.orNull();
+            else
+                insert(~i, key, result.orNull());
+        } else if (i >= 0)
+            delete(i);
+
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        final Object[] tab = table;
+        for (int i = 0; i < tab.length; i += 2)
+            if (isLive(tab[i]) && (value == null ? tab[i + 1] == null : value.equals(tab[i + 1])))
+                return true;
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final Object key) {
+        final int i = indexOf(key);
+        return i < 0 ? null : (V) table[i + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(final Object key, final V defaultValue) {
+        final int i = indexOf(key);
+        return i < 0 ? defaultValue : (V) table[i + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(final K key, final V value) {
+        final int i = probe(key);
+        if (i >= 0) {
+            final V previous = (V) table[i + 1];
+            table[i + 1] = value;
+            return previous;
+        }
+        insert(~i, key, value);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final Object key) {
+        final int i = indexOf(key);
+        if (i < 0)
+            return null;
+        final V value = (V) table[i + 1];
+        delete(i);
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(table, null);
+        Arrays.fill(hashes, 0);
+        size       = 0;
+        tombstones = 0;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action, "action == null");
+        final Object[] tab      = table;
+        final int      expected = modCount;
+        for (int i = 0; i < tab.length; i += 2)
+            if (isLive(tab[i]))
+                action.accept((K) unmaskNull(tab[i]), (V) tab[i + 1]);
+        if (modCount != expected)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        final Set<Map.Entry<K, V>> set = entrySet;
+        return set == null ? entrySet = new EntrySet() : set;
+    }
+
+    private static Object maskNull(final Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static Object unmaskNull(final Object key) {
+        return key == NULL_KEY ? null : key;
+    }
+
+    private static boolean isLive(final Object key) {
+        return key != null && key != TOMBSTONE;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        // keep the table at most half full
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < MAXIMUM_CAPACITY && capacity / 2 < expectedSize)
+            capacity <<= 1;
+        return capacity;
+    }
+
+    // spreads the hash code with a Fibonacci multiplier, whose well mixed high bits pick the first probe position, and
+    // reserves 0 for free slots
+    private static int hash(final Object key) {
+        final int h = key.hashCode() * 0x9E3779B9;
+        return h == 0 ? 1 : h;
+    }
+
+    private static int start(final int hash, final int capacity) {
+        return hash >>> Integer.numberOfLeadingZeros(capacity - 1);
+    }
+
+    // returns the value mapped to the specified key, or the specified sentinel if there is no mapping
+    Object getOrSentinel(final Object key, final Object sentinel) {
+        final int i = indexOf(key);
+        return i < 0 ? sentinel : table[i + 1];
+    }
+
+    // returns the index of the key slot holding the specified key, or -1
+    private int indexOf(final Object key) {
+        final Object   k   = maskNull(key);
+        final int      h   = hash(k);
+        final Object[] tab = table;
+        final int[]    hs  = hashes;
+        final int      m   = hs.length - 1;
+
+        for (int s = start(h, hs.length);; s = (s + 1) & m) {
+            final int cur = hs[s];
+            if (cur == 0)
+                return -1;
+            if (cur == h) {
+                final Object other = tab[s << 1];
+                if (other == k || (other != TOMBSTONE && k.equals(other)))
+                    return s << 1;
+            }
+        }
+    }
+
+    // returns the index of the key slot holding the specified key, or the complement of the slot to insert it at
+    private int probe(final Object key) {
+        final Object   k         = maskNull(key);
+        final int      h         = hash(k);
+        final Object[] tab       = table;
+        final int[]    hs        = hashes;
+        final int      m         = hs.length - 1;
+        int            tombstone = -1;
+
+        for (int s = start(h, hs.length);; s = (s + 1) & m) {
+            final int cur = hs[s];
+            if (cur == 0)
+                return ~(tombstone < 0 ? s << 1 : tombstone);
+            if (cur == h || tombstones > 0) {
+                final Object other = tab[s << 1];
+                if (other == TOMBSTONE) {
+                    if (tombstone < 0)
+                        tombstone = s << 1;
+                } else if (cur == h && (other == k || k.equals(other)))
+                    return s << 1;
+            }
+        }
+    }
+
+    private void insert(final int i, final Object key, final Object value) {
+        final Object k = maskNull(key);
+        if (table[i] == TOMBSTONE)
+            tombstones--;
+        table[i]       = k;
+        table[i + 1]   = value;
+        hashes[i >> 1] = hash(k);
+        size++;
+        modCount++;
+        if (size + tombstones > hashes.length / 2)
+            rehash();
+    }
+
+    private void delete(final int i) {
+        final Object[] tab = table;
+        final int[]    hs  = hashes;
+        // a slot followed by a free slot cannot be on any other key's probe path
+        if (hs[((i >> 1) + 1) & (hs.length - 1)] == 0) {
+            tab[i]     = null;
+            hs[i >> 1] = 0;
+        } else {
+            // a tombstone keeps its hash so that probing continues past it
+            tab[i] = TOMBSTONE;
+            tombstones++;
+        }
+        tab[i + 1] = null;
+        size--;
+        modCount++;
+    }
+
+    private void rehash() {
+        final Object[] old         = table;
+        final int[]    oldHashes   = hashes;
+        final int      oldCapacity = oldHashes.length;
+        final int      capacity;
+
+        // grow unless most of the occupied slots are tombstones
+        if (size < oldCapacity / 4)
+            capacity = oldCapacity;
+        else if (oldCapacity < MAXIMUM_CAPACITY)
+            capacity = oldCapacity * 2;
+        else
+            throw new IllegalStateException("maximum capacity exceeded");
+
+        final Object[] tab = new Object[capacity * 2];
+        final int[]    hs  = new int[capacity];
+        final int      m   = capacity - 1;
+
+        for (int j = 0; j < oldCapacity; j++)
+            if (isLive(old[j << 1])) {
+                final int h = oldHashes[j];
+                int       s = start(h, capacity);
+                while (hs[s] != 0)
+                    s = (s + 1) & m;
+                hs[s]             = h;
+                tab[s << 1]       = old[j << 1];
+                tab[(s << 1) + 1] = old[(j << 1) + 1];
+            }
+
+        table      = tab;
+        hashes     = hs;
+        tombstones = 0;
+    }
+
+    private final class Entry extends SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+        private final int expected;
+
+        private Entry(final int index, final K key, final V value) {
+            super(key, value);
+            this.index = index;
+            expected   = modCount;
+        }
+
+        @Override
+        public V setValue(final V value) {
+            if (modCount != expected)
+                throw new ConcurrentModificationException();
+            table[index + 1] = value;
+            return super.setValue(value);
+        }
+
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        private int next     = advance(0);
+        private int current  = -1;
+        private int expected = modCount;
+
+        private int advance(int i) {
+            final Object[] tab = table;
+            while (i < tab.length && !isLive(tab[i]))
+                i += 2;
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < table.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (modCount != expected)
+                throw new ConcurrentModificationException();
+            if (next >= table.length)
+                throw new NoSuchElementException();
+            current = next;
+            next    = advance(next + 2);
+            return new Entry(current, (K) unmaskNull(table[current]), (V) table[current + 1]);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0)
+                throw new IllegalStateException();
+            if (modCount != expected)
+                throw new ConcurrentModificationException();
+            // always leave a tombstone so that no live key moves behind the iterator
+            table[current]     = TOMBSTONE;
+            table[current + 1] = null;
+            tombstones++;
+            size--;
+            current  = -1;
+            expected = ++modCount;
+        }
+
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            if (!(obj instanceof Map.Entry))
+                return false;
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) obj;
+            final int             i     = indexOf(entry.getKey());
+            return i >= 0 && (entry.getValue() == null ? table[i + 1] == null : entry.getValue().equals(table[i + 1]));
+        }
+
+        @Override
+        public boolean remove(final Object obj) {
+            if (!contains(obj))
+                return false;
+            delete(indexOf(((Map.Entry<?, ?>) obj).getKey()));
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            MaybeHashMap.this.clear();
+        }
+
+    }
+
+}
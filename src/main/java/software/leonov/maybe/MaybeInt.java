@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * A primitive specialization of {@link Maybe} for {@code int} values. Unlike {@code Maybe<Integer>} an {@code int}
+ * value is never boxed, and unlike {@code Maybe} a {@code MaybeInt} can never contain a {@code null} value.
+ * <p>
+ * This is a <a href="https://docs.oracle.com/javase/8/docs/api/java/lang/doc-files/ValueBased.html" target=
+ * "_blank">value-based</a> class; use of identity-sensitive operations (including reference equality, identity hash
+ * code, or synchronization) on instances of this class may have unpredictable results and should be avoided.
+ * 
+ * @implNote Instances for values between {@code -128} and {@code 127} (inclusive) are cached.
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeInt {
+
+    private static final MaybeInt ABSENT = new MaybeInt();
+
+    private static final int        LOW   = -128;
+    private static final int        HIGH  = 127;
+    private static final MaybeInt[] CACHE = new MaybeInt[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new MaybeInt(LOW + i);
+    }
+
+    private final int     value;
+    private final boolean isPresent;
+
+    private MaybeInt() {
+        value     = 0;
+        isPresent = false;
+    }
+
+    private MaybeInt(final int value) {
+        this.value = value;
+        isPresent  = true;
+    }
+
+    /**
+     * Returns a {@link MaybeInt} instance which contains no value.
+     * 
+     * @return a {@link MaybeInt} instance which contains no value
+     */
+    public static MaybeInt absent() {
+        return ABSENT;
+    }
+
+    /**
+     * Returns a {@link MaybeInt} instance which contains the specified value.
+     * 
+     * @param value the specified value
+     * @return a {@link MaybeInt} instance which contains the specified value
+     */
+    public static MaybeInt of(final int value) {
+        return value >= LOW && value <= HIGH ? CACHE[value - LOW] : new MaybeInt(value);
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or the {@code defaultValue} otherwise.
+     * 
+     * @param defaultValue the default value to return if no value is {@link #isPresent() present}
+     * @return the value if it is {@link #isPresent() present} or the {@code defaultValue} otherwise
+     */
+    public int defaultTo(final int defaultValue) {
+        return isPresent ? value : defaultValue;
+    }
+
+    /**
+     * Returns {@code this} {@link MaybeInt} instance if the value is {@link #isPresent() present} and satisfies the
+     * given {@code IntPredicate} or an {@link #absent() absent} instance otherwise.
+     *
+     * @param predicate the predicate to apply to the value if is present
+     * @return {@code this} {@link MaybeInt} instance if the value is {@link #isPresent() present} and satisfies the
+     *         given {@code IntPredicate} or an {@link #absent() absent} instance otherwise
+     */
+    public MaybeInt filter(final IntPredicate predicate) {
+        requireNonNull(predicate, "predicate == null");
+        if (!isPresent)
+            return this;
+        else
+            return predicate.test(value) ? this : absent();
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or throws a {@code NoSuchElementException} otherwise.
+     * 
+     * @return the value if it is {@link #isPresent() present} or throws a {@code NoSuchElementException} otherwise
+     * @throws NoSuchElementException if no value is {@link #isPresent() present}
+     */
+    public int get() {
+        if (isPresent)
+            return value;
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * {@link IntConsumer#accept(int) Invokes} the specified {@code IntConsumer} if the value is
+     * {@link #isPresent() present}.
+     * 
+     * @param consumer the specified consumer
+     * @return {@code this} {@link MaybeInt} instance
+     */
+    public MaybeInt ifPresent(final IntConsumer consumer) {
+        requireNonNull(consumer, "consumer == null");
+        if (isPresent)
+            consumer.accept(value);
+        return this;
+    }
+
+    /**
+     * Returns {@code true} if the value is present or {@code false} otherwise.
+     * 
+     * @return {@code true} if the value is present or {@code false} otherwise
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * Returns a {@link MaybeInt} instance which contains the result of applying the given {@code IntUnaryOperator} to
+     * the current value if it is {@link #isPresent() present} or an {@link #absent() absent} instance otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeInt} instance which contains the result of applying the given {@code IntUnaryOperator} to
+     *         the current value if it is {@link #isPresent() present} or an {@link #absent() absent} instance otherwise
+     */
+    public MaybeInt map(final IntUnaryOperator function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? of(function.applyAsInt(value)) : this;
+    }
+
+    /**
+     * Returns a {@link MaybeDouble} instance which contains the result of applying the given
+     * {@code IntToDoubleFunction} to the current value if it is {@link #isPresent() present} or an
+     * {@link MaybeDouble#absent() absent} instance otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeDouble} instance which contains the result of applying the given
+     *         {@code IntToDoubleFunction} to the current value if it is {@link #isPresent() present} or an
+     *         {@link MaybeDouble#absent() absent} instance otherwise
+     */
+    public MaybeDouble mapToDouble(final IntToDoubleFunction function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? MaybeDouble.of(function.applyAsDouble(value)) : MaybeDouble.absent();
+    }
+
+    /**
+     * Returns a {@link MaybeLong} instance which contains the result of applying the given {@code IntToLongFunction} to
+     * the current value if it is {@link #isPresent() present} or an {@link MaybeLong#absent() absent} instance
+     * otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeLong} instance which contains the result of applying the given {@code IntToLongFunction} to
+     *         the current value if it is {@link #isPresent() present} or an {@link MaybeLong#absent() absent} instance
+     *         otherwise
+     */
+    public MaybeLong mapToLong(final IntToLongFunction function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? MaybeLong.of(function.applyAsLong(value)) : MaybeLong.absent();
+    }
+
+    /**
+     * Returns a {@link Maybe} instance which contains the possibly {@code null} result of applying the given
+     * {@code IntFunction} to the current value if it is {@link #isPresent() present} or an
+     * {@link Maybe#absent() absent} instance otherwise.
+     * 
+     * @param <U>      the type of the result of the mapping function
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link Maybe} instance which contains the possibly {@code null} result of applying the given
+     *         {@code IntFunction} to the current value if it is {@link #isPresent() present} or an
+     *         {@link Maybe#absent() absent} instance otherwise
+     */
+    public <U> Maybe<U> mapToObj(final IntFunction<? extends U> function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? Maybe.of(function.apply(value)) : Maybe.absent();
+    }
+
+    /**
+     * Returns {@code this} {@link MaybeInt} instance if the value is {@link #isPresent() present} or the {@code other}
+     * instance otherwise.
+     * 
+     * @param other the {@link MaybeInt} instance to return if the value is not {@link #isPresent() present}
+     * @return {@code this} {@link MaybeInt} instance if the value is {@link #isPresent() present} or the {@code other}
+     *         instance otherwise
+     */
+    public MaybeInt or(final MaybeInt other) {
+        requireNonNull(other, "other == null");
+        return isPresent ? this : other;
+    }
+
+    /**
+     * {@link Runnable#run() Invokes} the specified {@code Runnable} if the value is not {@link #isPresent() present}.
+     * 
+     * @param runnable the specified runnable
+     * @return {@code this} {@link MaybeInt} instance
+     */
+    public MaybeInt otherwise(final Runnable runnable) {
+        requireNonNull(runnable, "runnable == null");
+        if (!isPresent)
+            runnable.run();
+        return this;
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or {@link IntSupplier#getAsInt()} otherwise.
+     * 
+     * @param supplier the {@code IntSupplier} whose result is returned if no value is {@link #isPresent() present}
+     * @return the value if it is {@link #isPresent() present} or {@link IntSupplier#getAsInt()} otherwise
+     */
+    public int orElseGet(final IntSupplier supplier) {
+        requireNonNull(supplier, "supplier == null");
+        return isPresent ? value : supplier.getAsInt();
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or throws an exception produced by the specified
+     * {@link Supplier} otherwise.
+     * 
+     * @param <X>      the type of exception to be thrown
+     * @param supplier the exception supplier
+     * @return the value if it is {@link #isPresent() present}
+     * @throws X if the value is not {@link #isPresent() present}
+     */
+    public <X extends Throwable> int orElseThrow(final Supplier<? extends X> supplier) throws X {
+        requireNonNull(supplier, "supplier == null");
+        if (isPresent)
+            return value;
+        else
+            throw requireNonNull(supplier.get(), "Supplier.get() == null");
+    }
+
+    /**
+     * Returns a sequential {@link IntStream} containing the value if it is {@link #isPresent() present} or an
+     * {@link IntStream#empty() empty} {@code IntStream} otherwise.
+     *
+     * @return a sequential {@link IntStream} containing the value if it is {@link #isPresent() present} or an
+     *         {@link IntStream#empty() empty} {@code IntStream} otherwise
+     */
+    public IntStream stream() {
+        return isPresent ? IntStream.of(value) : IntStream.empty();
+    }
+
+    /**
+     * Returns this {@link MaybeInt} as a Java {@link OptionalInt}.
+     * 
+     * @return {@code this} {@link MaybeInt} as a Java {@link OptionalInt}
+     */
+    public OptionalInt toOptional() {
+        return isPresent ? OptionalInt.of(value) : OptionalInt.empty();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+
+        if (!(obj instanceof MaybeInt))
+            return false;
+
+        final MaybeInt other = (MaybeInt) obj;
+
+        return isPresent == other.isPresent && value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return isPresent ? Integer.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return isPresent ? "MaybeInt[" + value + "]" : "MaybeInt[]";
+    }
+
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.function.IntConsumer;
+
+/**
+ * An append-only column of {@code int} cells stored off-heap, where each cell is either <i>absent</i>, explicitly
+ * {@code null}, or holds a value. Unlike a {@code List<Maybe<Integer>>} no object is allocated per cell: values are
+ * stored in a direct {@link ByteBuffer}, alongside a presence bitmap (set for {@code null} and value cells) and a null
+ * bitmap (set for {@code null} cells only), so a column costs 4 bytes and 2 bits per row.
+ * <p>
+ * {@link #get(int)} returns the {@link Maybe} view of a single cell, and {@link #getInt(int)} its {@link MaybeInt}
+ * view. Scans such as {@link #forEachValue(IntConsumer)} and {@link #countValues()} work a 64-row bitmap word at a
+ * time. {@link #slice(int, int)} returns a read-only view of a range of rows which shares this column's memory.
+ * <p>
+ * A column holds at most {@value #MAXIMUM_CAPACITY} rows, the most that fit in a single direct buffer; larger
+ * datasets should be split into several columns. This class is not synchronized.
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeIntColumn {
+
+    /**
+     * The maximum number of rows a column can hold.
+     */
+    public static final int MAXIMUM_CAPACITY = (Integer.MAX_VALUE / Integer.BYTES) & ~63;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private ByteBuffer valueBytes;
+    private ByteBuffer presentBytes;
+    private ByteBuffer nullBytes;
+    private IntBuffer  values;
+    private LongBuffer present;
+    private LongBuffer nulls;
+
+    // the row of the backing memory at which this column starts, non-zero only for slices
+    private final int     offset;
+    private final boolean slice;
+    private int           size;
+
+    /**
+     * Creates a new empty {@link MaybeIntColumn}.
+     */
+    public MaybeIntColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty {@link MaybeIntColumn} which can hold the specified number of rows without resizing.
+     * 
+     * @param expectedSize the expected number of rows
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or greater than {@link #MAXIMUM_CAPACITY}
+     */
+    public MaybeIntColumn(final int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("expectedSize < 0");
+        if (expectedSize > MAXIMUM_CAPACITY)
+            throw new IllegalArgumentException("expectedSize > MAXIMUM_CAPACITY");
+        allocate(Math.max(roundUp(expectedSize), 64));
+        offset = 0;
+        slice  = false;
+    }
+
+    private MaybeIntColumn(final MaybeIntColumn column, final int offset, final int size) {
+        valueBytes   = column.valueBytes;
+        presentBytes = column.presentBytes;
+        nullBytes    = column.nullBytes;
+        values       = column.values;
+        present      = column.present;
+        nulls        = column.nulls;
+        this.offset  = offset;
+        this.size    = size;
+        slice        = true;
+    }
+
+    /**
+     * Returns the number of rows in this column.
+     * 
+     * @return the number of rows in this column
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a row holding the specified value.
+     * 
+     * @param value the value
+     * @return this column
+     * @throws UnsupportedOperationException if this column is a {@link #slice(int, int) slice}
+     * @throws IllegalStateException         if this column already holds {@link #MAXIMUM_CAPACITY} rows
+     */
+    public MaybeIntColumn append(final int value) {
+        final int row = reserve(1);
+        values.put(row, value);
+        setBit(present, row);
+        return this;
+    }
+
+    /**
+     * Appends a {@code null} row.
+     * 
+     * @return this column
+     * @throws UnsupportedOperationException if this column is a {@link #slice(int, int) slice}
+     * @throws IllegalStateException         if this column already holds {@link #MAXIMUM_CAPACITY} rows
+     */
+    public MaybeIntColumn appendNull() {
+        final int row = reserve(1);
+        setBit(present, row);
+        setBit(nulls, row);
+        return this;
+    }
+
+    /**
+     * Appends the specified number of absent rows.
+     * 
+     * @param count the number of absent rows to append
+     * @return this column
+     * @throws IllegalArgumentException      if {@code count} is negative
+     * @throws UnsupportedOperationException if this column is a {@link #slice(int, int) slice}
+     * @throws IllegalStateException         if the column would exceed {@link #MAXIMUM_CAPACITY} rows
+     */
+    public MaybeIntColumn appendAbsent(final int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("count < 0");
+        // freshly allocated direct memory is zeroed, so both bits are already clear
+        reserve(count);
+        return this;
+    }
+
+    /**
+     * Appends a row in the same state as the specified {@link Maybe} instance.
+     * 
+     * @param maybe the specified {@link Maybe} instance
+     * @return this column
+     * @throws UnsupportedOperationException if this column is a {@link #slice(int, int) slice}
+     * @throws IllegalStateException         if this column already holds {@link #MAXIMUM_CAPACITY} rows
+     */
+    public MaybeIntColumn append(final Maybe<? extends Integer> maybe) {
+        requireNonNull(maybe, "maybe == null");
+        if (!maybe.isPresent())
+            return appendAbsent(1);
+        else if (maybe.isNull())
+            return appendNull();
+        else
+            return append(maybe.get().intValue());
+    }
+
+    /**
+     * Appends a row holding each of the specified values.
+     * 
+     * @param values the values
+     * @return this column
+     * @throws UnsupportedOperationException if this column is a {@link #slice(int, int) slice}
+     * @throws IllegalStateException         if the column would exceed {@link #MAXIMUM_CAPACITY} rows
+     */
+    public MaybeIntColumn appendAll(final int... values) {
+        requireNonNull(values, "values == null");
+        final int       start = reserve(values.length);
+        final IntBuffer dst   = this.values;
+        for (int i = 0; i < values.length; i++)
+            dst.put(start + i, values[i]);
+        setBits(present, start, values.length);
+        return this;
+    }
+
+    /**
+     * Appends every row of the specified column, in the same state.
+     * 
+     * @param column the specified column
+     * @return this column
+     * @throws UnsupportedOperationException if this column is a {@link #slice(int, int) slice}
+     * @throws IllegalStateException         if the column would exceed {@link #MAXIMUM_CAPACITY} rows
+     */
+    public MaybeIntColumn appendAll(final MaybeIntColumn column) {
+        requireNonNull(column, "column == null");
+        final int count = column.size;
+        final int start = reserve(count);
+        for (int i = 0; i < count; i++)
+            values.put(start + i, column.values.get(column.offset + i));
+        for (int i = 0; i < count; i += 64) {
+            orBits(present, start + i, readBits(column.present, column.offset + i, count - i));
+            orBits(nulls, start + i, readBits(column.nulls, column.offset + i, count - i));
+        }
+        return this;
+    }
+
+    /**
+     * Returns a {@link Maybe} view of the specified row: an {@link Maybe#absent() absent} instance for an absent row, a
+     * {@link Maybe#isNull() null} instance for a {@code null} row, or an instance containing the value.
+     * 
+     * @param row the index of the row
+     * @return a {@link Maybe} view of the specified row
+     * @throws IndexOutOfBoundsException if {@code row < 0 || row >= size()}
+     */
+    public Maybe<Integer> get(final int row) {
+        final int i = checkRow(row);
+        if (!getBit(present, i))
+            return Maybe.absent();
+        else if (getBit(nulls, i))
+            return Maybe.of(null);
+        else
+            return Maybe.of(values.get(i));
+    }
+
+    /**
+     * Returns a {@link MaybeInt} view of the specified row, which contains the value if the row holds one and is
+     * {@link MaybeInt#absent() absent} if the row is absent or {@code null}. Use {@link #isNull(int)} to tell the
+     * latter two apart.
+     * 
+     * @param row the index of the row
+     * @return a {@link MaybeInt} view of the specified row
+     * @throws IndexOutOfBoundsException if {@code row < 0 || row >= size()}
+     */
+    public MaybeInt getInt(final int row) {
+        final int i = checkRow(row);
+        return getBit(present, i) && !getBit(nulls, i) ? MaybeInt.of(values.get(i)) : MaybeInt.absent();
+    }
+
+    /**
+     * Returns {@code true} if the specified row is not absent, that is it holds a value or {@code null}.
+     * 
+     * @param row the index of the row
+     * @return {@code true} if the specified row is not absent
+     * @throws IndexOutOfBoundsException if {@code row < 0 || row >= size()}
+     */
+    public boolean isPresent(final int row) {
+        return getBit(present, checkRow(row));
+    }
+
+    /**
+     * Returns {@code true} if the specified row is {@code null}.
+     * 
+     * @param row the index of the row
+     * @return {@code true} if the specified row is {@code null}
+     * @throws IndexOutOfBoundsException if {@code row < 0 || row >= size()}
+     */
+    public boolean isNull(final int row) {
+        return getBit(nulls, checkRow(row));
+    }
+
+    /**
+     * Returns the number of rows which are not absent.
+     * 
+     * @return the number of rows which are not absent
+     */
+    public int countPresent() {
+        return count(false);
+    }
+
+    /**
+     * Returns the number of {@code null} rows.
+     * 
+     * @return the number of {@code null} rows
+     */
+    public int countNull() {
+        int count = 0;
+        for (int i = 0; i < size; i += 64)
+            count += Long.bitCount(readBits(nulls, offset + i, size - i));
+        return count;
+    }
+
+    /**
+     * Returns the number of rows which hold a value.
+     * 
+     * @return the number of rows which hold a value
+     */
+    public int countValues() {
+        return count(true);
+    }
+
+    /**
+     * Performs the specified action on the value of every row which holds one, in row order. Absent and {@code null}
+     * rows are skipped 64 at a time using the bitmaps.
+     * 
+     * @param action the action to perform
+     */
+    public void forEachValue(final IntConsumer action) {
+        requireNonNull(action, "action == null");
+        for (int i = 0; i < size; i += 64) {
+            long bits = readBits(present, offset + i, size - i) & ~readBits(nulls, offset + i, size - i);
+            while (bits != 0) {
+                action.accept(values.get(offset + i + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns a read-only view of the rows of this column from {@code from}, inclusive, to {@code to}, exclusive. The
+     * view shares this column's memory and nothing is copied. Rows appended to this column afterwards are not visible
+     * in the view.
+     * 
+     * @param from the index of the first row, inclusive
+     * @param to   the index of the last row, exclusive
+     * @return a read-only view of the specified range of rows
+     * @throws IndexOutOfBoundsException if {@code from < 0 || to > size() || from > to}
+     */
+    public MaybeIntColumn slice(final int from, final int to) {
+        if (from < 0 || to > size || from > to)
+            throw new IndexOutOfBoundsException("from < 0 || to > size() || from > to");
+        return new MaybeIntColumn(this, offset + from, to - from);
+    }
+
+    private int count(final boolean valuesOnly) {
+        int count = 0;
+        for (int i = 0; i < size; i += 64) {
+            long bits = readBits(present, offset + i, size - i);
+            if (valuesOnly)
+                bits &= ~readBits(nulls, offset + i, size - i);
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    private int checkRow(final int row) {
+        if (row < 0 || row >= size)
+            throw new IndexOutOfBoundsException("row < 0 || row >= size()");
+        return offset + row;
+    }
+
+    // reserves the specified number of rows at the end of this column and returns the index of the first one
+    private int reserve(final int count) {
+        if (slice)
+            throw new UnsupportedOperationException("slice");
+        if (count > MAXIMUM_CAPACITY - size)
+            throw new IllegalStateException("maximum capacity exceeded");
+        final int row = size;
+        if (size + count > values.capacity())
+            allocate(Math.max(roundUp(size + count), (int) Math.min(values.capacity() * 2L, MAXIMUM_CAPACITY)));
+        size += count;
+        return row;
+    }
+
+    private void allocate(final int capacity) {
+        final ByteBuffer oldValues  = valueBytes;
+        final ByteBuffer oldPresent = presentBytes;
+        final ByteBuffer oldNulls   = nullBytes;
+
+        valueBytes   = ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder());
+        presentBytes = ByteBuffer.allocateDirect(capacity / Byte.SIZE).order(ByteOrder.nativeOrder());
+        nullBytes    = ByteBuffer.allocateDirect(capacity / Byte.SIZE).order(ByteOrder.nativeOrder());
+        values       = valueBytes.asIntBuffer();
+        present      = presentBytes.asLongBuffer();
+        nulls        = nullBytes.asLongBuffer();
+
+        if (oldValues != null) {
+            valueBytes.duplicate().put(oldValues.duplicate());
+            presentBytes.duplicate().put(oldPresent.duplicate());
+            nullBytes.duplicate().put(oldNulls.duplicate());
+        }
+    }
+
+    // rounds up to a whole number of bitmap words
+    private static int roundUp(final int rows) {
+        return (int) Math.min((rows + 63L) & ~63L, MAXIMUM_CAPACITY);
+    }
+
+    private static boolean getBit(final LongBuffer bitmap, final int bit) {
+        return (bitmap.get(bit >>> 6) & 1L << bit) != 0;
+    }
+
+    private static void setBit(final LongBuffer bitmap, final int bit) {
+        bitmap.put(bit >>> 6, bitmap.get(bit >>> 6) | 1L << bit);
+    }
+
+    private static void setBits(final LongBuffer bitmap, final int from, final int count) {
+        for (int i = 0; i < count; i += 64)
+            orBits(bitmap, from + i, count - i >= 64 ? -1L : (1L << count - i) - 1);
+    }
+
+    // returns the (at most 64) bits starting at the specified bit, with bits beyond the specified limit cleared
+    private static long readBits(final LongBuffer bitmap, final int from, final int limit) {
+        final int word  = from >>> 6;
+        final int shift = from & 63;
+        long      bits  = bitmap.get(word) >>> shift;
+        if (shift != 0 && word + 1 < bitmap.limit())
+            bits |= bitmap.get(word + 1) << 64 - shift;
+        return limit >= 64 ? bits : bits & (1L << limit) - 1;
+    }
+
+    // sets the specified (up to 64) bits starting at the specified bit
+    private static void orBits(final LongBuffer bitmap, final int from, final long bits) {
+        final int word  = from >>> 6;
+        final int shift = from & 63;
+        bitmap.put(word, bitmap.get(word) | bits << shift);
+        if (shift != 0 && (bits >>> 64 - shift) != 0)
+            bitmap.put(word + 1, bitmap.get(word + 1) | bits >>> 64 - shift);
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * A source of values which can tell a missing key apart from a key mapped to {@code null}, such as a remote store or a
+ * cache backend.
+ * <p>
+ * Sources which can answer many keys at once more cheaply than one at a time, for example with a single round trip,
+ * should override {@link #loadAll(List)}. {@link Maybe#getAll(MaybeLoader, Object...)} passes each batch to a single
+ * {@link #loadAll(List)} call.
+ * 
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * 
+ * @author Zhenya Leonov
+ */
+@FunctionalInterface
+public interface MaybeLoader<K, V> {
+
+    /**
+     * Returns a {@link Maybe} instance containing the possibly {@code null} value associated with the specified key or
+     * an {@link Maybe#absent() absent} instance if there is no such value.
+     * 
+     * @param key the key whose associated value is to be loaded
+     * @return a {@link Maybe} instance containing the possibly {@code null} value associated with the specified key or
+     *         an {@link Maybe#absent() absent} instance if there is no such value
+     */
+    Maybe<V> load(K key);
+
+    /**
+     * Loads the values associated with the specified keys and returns them in the same order.
+     * 
+     * @implSpec The default implementation calls {@link #load(Object)} once per key.
+     * 
+     * @param keys the keys whose associated values are to be loaded
+     * @return a {@link MaybeArray} of the same length as {@code keys} whose elements are the results of loading the
+     *         corresponding keys
+     */
+    default MaybeArray<V> loadAll(final List<? extends K> keys) {
+        requireNonNull(keys, "keys == null");
+        final MaybeArray<V> results = new MaybeArray<>(keys.size());
+        int                 i       = 0;
+        for (final K key : keys) {
+            final Maybe<V> value = load(key);
+            if (value.isPresent())
+                results.set(i, value.orNull());
+            i++;
+        }
+        return results;
+    }
+
+}
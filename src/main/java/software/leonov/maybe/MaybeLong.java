@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * A primitive specialization of {@link Maybe} for {@code long} values. Unlike {@code Maybe<Long>} a {@code long} value
+ * is never boxed, and unlike {@code Maybe} a {@code MaybeLong} can never contain a {@code null} value.
+ * <p>
+ * This is a <a href="https://docs.oracle.com/javase/8/docs/api/java/lang/doc-files/ValueBased.html" target=
+ * "_blank">value-based</a> class; use of identity-sensitive operations (including reference equality, identity hash
+ * code, or synchronization) on instances of this class may have unpredictable results and should be avoided.
+ * 
+ * @implNote Instances for values between {@code -128} and {@code 127} (inclusive) are cached.
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeLong {
+
+    private static final MaybeLong ABSENT = new MaybeLong();
+
+    private static final int         LOW   = -128;
+    private static final int         HIGH  = 127;
+    private static final MaybeLong[] CACHE = new MaybeLong[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new MaybeLong(LOW + i);
+    }
+
+    private final long    value;
+    private final boolean isPresent;
+
+    private MaybeLong() {
+        value     = 0;
+        isPresent = false;
+    }
+
+    private MaybeLong(final long value) {
+        this.value = value;
+        isPresent  = true;
+    }
+
+    /**
+     * Returns a {@link MaybeLong} instance which contains no value.
+     * 
+     * @return a {@link MaybeLong} instance which contains no value
+     */
+    public static MaybeLong absent() {
+        return ABSENT;
+    }
+
+    /**
+     * Returns a {@link MaybeLong} instance which contains the specified value.
+     * 
+     * @param value the specified value
+     * @return a {@link MaybeLong} instance which contains the specified value
+     */
+    public static MaybeLong of(final long value) {
+        return value >= LOW && value <= HIGH ? CACHE[(int) value - LOW] : new MaybeLong(value);
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or the {@code defaultValue} otherwise.
+     * 
+     * @param defaultValue the default value to return if no value is {@link #isPresent() present}
+     * @return the value if it is {@link #isPresent() present} or the {@code defaultValue} otherwise
+     */
+    public long defaultTo(final long defaultValue) {
+        return isPresent ? value : defaultValue;
+    }
+
+    /**
+     * Returns {@code this} {@link MaybeLong} instance if the value is {@link #isPresent() present} and satisfies the
+     * given {@code LongPredicate} or an {@link #absent() absent} instance otherwise.
+     *
+     * @param predicate the predicate to apply to the value if is present
+     * @return {@code this} {@link MaybeLong} instance if the value is {@link #isPresent() present} and satisfies the
+     *         given {@code LongPredicate} or an {@link #absent() absent} instance otherwise
+     */
+    public MaybeLong filter(final LongPredicate predicate) {
+        requireNonNull(predicate, "predicate == null");
+        if (!isPresent)
+            return this;
+        else
+            return predicate.test(value) ? this : absent();
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or throws a {@code NoSuchElementException} otherwise.
+     * 
+     * @return the value if it is {@link #isPresent() present} or throws a {@code NoSuchElementException} otherwise
+     * @throws NoSuchElementException if no value is {@link #isPresent() present}
+     */
+    public long get() {
+        if (isPresent)
+            return value;
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * {@link LongConsumer#accept(long) Invokes} the specified {@code LongConsumer} if the value is
+     * {@link #isPresent() present}.
+     * 
+     * @param consumer the specified consumer
+     * @return {@code this} {@link MaybeLong} instance
+     */
+    public MaybeLong ifPresent(final LongConsumer consumer) {
+        requireNonNull(consumer, "consumer == null");
+        if (isPresent)
+            consumer.accept(value);
+        return this;
+    }
+
+    /**
+     * Returns {@code true} if the value is present or {@code false} otherwise.
+     * 
+     * @return {@code true} if the value is present or {@code false} otherwise
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * Returns a {@link MaybeLong} instance which contains the result of applying the given {@code LongUnaryOperator} to
+     * the current value if it is {@link #isPresent() present} or an {@link #absent() absent} instance otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeLong} instance which contains the result of applying the given {@code LongUnaryOperator} to
+     *         the current value if it is {@link #isPresent() present} or an {@link #absent() absent} instance otherwise
+     */
+    public MaybeLong map(final LongUnaryOperator function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? of(function.applyAsLong(value)) : this;
+    }
+
+    /**
+     * Returns a {@link MaybeDouble} instance which contains the result of applying the given
+     * {@code LongToDoubleFunction} to the current value if it is {@link #isPresent() present} or an
+     * {@link MaybeDouble#absent() absent} instance otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeDouble} instance which contains the result of applying the given
+     *         {@code LongToDoubleFunction} to the current value if it is {@link #isPresent() present} or an
+     *         {@link MaybeDouble#absent() absent} instance otherwise
+     */
+    public MaybeDouble mapToDouble(final LongToDoubleFunction function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? MaybeDouble.of(function.applyAsDouble(value)) : MaybeDouble.absent();
+    }
+
+    /**
+     * Returns a {@link MaybeInt} instance which contains the result of applying the given {@code LongToIntFunction} to
+     * the current value if it is {@link #isPresent() present} or an {@link MaybeInt#absent() absent} instance
+     * otherwise.
+     * 
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link MaybeInt} instance which contains the result of applying the given {@code LongToIntFunction} to
+     *         the current value if it is {@link #isPresent() present} or an {@link MaybeInt#absent() absent} instance
+     *         otherwise
+     */
+    public MaybeInt mapToInt(final LongToIntFunction function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? MaybeInt.of(function.applyAsInt(value)) : MaybeInt.absent();
+    }
+
+    /**
+     * Returns a {@link Maybe} instance which contains the possibly {@code null} result of applying the given
+     * {@code LongFunction} to the current value if it is {@link #isPresent() present} or an
+     * {@link Maybe#absent() absent} instance otherwise.
+     * 
+     * @param <U>      the type of the result of the mapping function
+     * @param function the mapping function to apply to the value if it is {@link #isPresent() present}
+     * @return a {@link Maybe} instance which contains the possibly {@code null} result of applying the given
+     *         {@code LongFunction} to the current value if it is {@link #isPresent() present} or an
+     *         {@link Maybe#absent() absent} instance otherwise
+     */
+    public <U> Maybe<U> mapToObj(final LongFunction<? extends U> function) {
+        requireNonNull(function, "function == null");
+        return isPresent ? Maybe.of(function.apply(value)) : Maybe.absent();
+    }
+
+    /**
+     * Returns {@code this} {@link MaybeLong} instance if the value is {@link #isPresent() present} or the {@code other}
+     * instance otherwise.
+     * 
+     * @param other the {@link MaybeLong} instance to return if the value is not {@link #isPresent() present}
+     * @return {@code this} {@link MaybeLong} instance if the value is {@link #isPresent() present} or the {@code other}
+     *         instance otherwise
+     */
+    public MaybeLong or(final MaybeLong other) {
+        requireNonNull(other, "other == null");
+        return isPresent ? this : other;
+    }
+
+    /**
+     * {@link Runnable#run() Invokes} the specified {@code Runnable} if the value is not {@link #isPresent() present}.
+     * 
+     * @param runnable the specified runnable
+     * @return {@code this} {@link MaybeLong} instance
+     */
+    public MaybeLong otherwise(final Runnable runnable) {
+        requireNonNull(runnable, "runnable == null");
+        if (!isPresent)
+            runnable.run();
+        return this;
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or {@link LongSupplier#getAsLong()} otherwise.
+     * 
+     * @param supplier the {@code LongSupplier} whose result is returned if no value is {@link #isPresent() present}
+     * @return the value if it is {@link #isPresent() present} or {@link LongSupplier#getAsLong()} otherwise
+     */
+    public long orElseGet(final LongSupplier supplier) {
+        requireNonNull(supplier, "supplier == null");
+        return isPresent ? value : supplier.getAsLong();
+    }
+
+    /**
+     * Returns the value if it is {@link #isPresent() present} or throws an exception produced by the specified
+     * {@link Supplier} otherwise.
+     * 
+     * @param <X>      the type of exception to be thrown
+     * @param supplier the exception supplier
+     * @return the value if it is {@link #isPresent() present}
+     * @throws X if the value is not {@link #isPresent() present}
+     */
+    public <X extends Throwable> long orElseThrow(final Supplier<? extends X> supplier) throws X {
+        requireNonNull(supplier, "supplier == null");
+        if (isPresent)
+            return value;
+        else
+            throw requireNonNull(supplier.get(), "Supplier.get() == null");
+    }
+
+    /**
+     * Returns a sequential {@link LongStream} containing the value if it is {@link #isPresent() present} or an
+     * {@link LongStream#empty() empty} {@code LongStream} otherwise.
+     *
+     * @return a sequential {@link LongStream} containing the value if it is {@link #isPresent() present} or an
+     *         {@link LongStream#empty() empty} {@code LongStream} otherwise
+     */
+    public LongStream stream() {
+        return isPresent ? LongStream.of(value) : LongStream.empty();
+    }
+
+    /**
+     * Returns this {@link MaybeLong} as a Java {@link OptionalLong}.
+     * 
+     * @return {@code this} {@link MaybeLong} as a Java {@link OptionalLong}
+     */
+    public OptionalLong toOptional() {
+        return isPresent ? OptionalLong.of(value) : OptionalLong.empty();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+
+        if (!(obj instanceof MaybeLong))
+            return false;
+
+        final MaybeLong other = (MaybeLong) obj;
+
+        return isPresent == other.isPresent && value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return isPresent ? Long.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return isPresent ? "MaybeLong[" + value + "]" : "MaybeLong[]";
+    }
+
+}
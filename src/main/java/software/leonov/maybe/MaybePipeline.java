@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, reusable chain of {@link Maybe} transformations which is composed once and then applied to many inputs
+ * without creating an intermediate {@code Maybe} instance per step.
+ * <p>
+ * A chain such as {@code maybe.map(f).filter(p).map(g).defaultTo(d)} creates a new {@code Maybe} at every {@code map}
+ * step, which escape analysis can only remove if every call is inlined. The equivalent pipeline
+ * 
+ * <pre>{@code
+ * MaybePipeline<String, Integer> pipeline = MaybePipeline.<String>identity().map(f).filter(p).map(g);
+ * ...
+ * Integer result = pipeline.defaultTo(maybe, d);
+ * }</pre>
+ * 
+ * carries the intermediate values through the steps as plain references, with absence represented internally, and only
+ * creates the final result. Each step has the same semantics as the {@link Maybe} method of the same name.
+ * <p>
+ * Instances of this class are immutable and thread-safe, and may be shared freely.
+ * 
+ * @param <T> the type of input values
+ * @param <R> the type of result values
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybePipeline<T, R> implements Function<Maybe<? extends T>, Maybe<R>> {
+
+    // the internal representation of an absent intermediate result
+    private static final Object NONE = new Object();
+
+    private static final MaybePipeline<?, ?> IDENTITY = new MaybePipeline<>(x -> x);
+
+    // transforms a possibly null value, or NONE, into a possibly null value or NONE
+    private interface Stage {
+        Object apply(Object value);
+    }
+
+    private final Stage stage;
+
+    private MaybePipeline(final Stage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Returns a {@link MaybePipeline} with no steps, which returns its input unchanged.
+     * 
+     * @param <T> the type of input values
+     * @return a {@link MaybePipeline} with no steps
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MaybePipeline<T, T> identity() {
+        return (MaybePipeline<T, T>) IDENTITY;
+    }
+
+    /**
+     * Applies this pipeline to the specified {@link Maybe} instance.
+     * 
+     * @param input the specified {@link Maybe} instance
+     * @return the result of applying each step of this pipeline in order
+     */
+    @Override
+    public Maybe<R> apply(final Maybe<? extends T> input) {
+        requireNonNull(input, "input == null");
+        return toMaybe(stage.apply(input.isPresent() ? input.orNull() : NONE));
+    }
+
+    /**
+     * Applies this pipeline to the specified possibly {@code null} value, as if it were wrapped with
+     * {@link Maybe#of(Object)}.
+     * 
+     * @param value the specified possibly {@code null} value
+     * @return the result of applying each step of this pipeline in order
+     */
+    public Maybe<R> applyValue(final T value) {
+        return toMaybe(stage.apply(value));
+    }
+
+    /**
+     * Applies this pipeline to the specified {@link Maybe} instance and returns the possibly {@code null} result if it
+     * is present or the specified default value otherwise, without creating a {@link Maybe} instance for the result.
+     * 
+     * @param input        the specified {@link Maybe} instance
+     * @param defaultValue the value to return if the result is {@link Maybe#absent() absent}
+     * @return the possibly {@code null} result if it is present or the specified default value otherwise
+     */
+    public R defaultTo(final Maybe<? extends T> input, final R defaultValue) {
+        requireNonNull(input, "input == null");
+        return orDefault(stage.apply(input.isPresent() ? input.orNull() : NONE), defaultValue);
+    }
+
+    /**
+     * Applies this pipeline to the specified possibly {@code null} value, as if it were wrapped with
+     * {@link Maybe#of(Object)}, and returns the possibly {@code null} result if it is present or the specified default
+     * value otherwise, without creating a {@link Maybe} instance for the result.
+     * 
+     * @param value        the specified possibly {@code null} value
+     * @param defaultValue the value to return if the result is {@link Maybe#absent() absent}
+     * @return the possibly {@code null} result if it is present or the specified default value otherwise
+     */
+    public R defaultToValue(final T value, final R defaultValue) {
+        return orDefault(stage.apply(value), defaultValue);
+    }
+
+    /**
+     * Returns a new pipeline which adds a {@link Maybe#filter(Predicate) filter} step to this pipeline.
+     * 
+     * @param predicate the predicate to apply to the present, possibly {@code null}, value
+     * @return a new pipeline which adds a {@link Maybe#filter(Predicate) filter} step to this pipeline
+     */
+    public MaybePipeline<T, R> filter(final Predicate<? super R> predicate) {
+        requireNonNull(predicate, "predicate == null");
+        final Stage previous = stage;
+        return new MaybePipeline<>(x -> {
+            final Object value = previous.apply(x);
+            return value == NONE || !predicate.test(cast(value)) ? NONE : value;
+        });
+    }
+
+    /**
+     * Returns a new pipeline which adds an {@link Maybe#ifNull(Maybe) ifNull} step to this pipeline.
+     * 
+     * @param other the {@link Maybe} instance to replace a {@code null} value with
+     * @return a new pipeline which adds an {@link Maybe#ifNull(Maybe) ifNull} step to this pipeline
+     */
+    public MaybePipeline<T, R> ifNull(final Maybe<? extends R> other) {
+        requireNonNull(other, "other == null");
+        final Stage previous = stage;
+        return new MaybePipeline<>(x -> {
+            final Object value = previous.apply(x);
+            return value != null ? value : other.isPresent() ? other.orNull() : NONE;
+        });
+    }
+
+    /**
+     * Returns a new pipeline which adds a {@link Maybe#map(Function) map} step to this pipeline.
+     * 
+     * @param <U>      the type of the mapped value
+     * @param function the function to apply to the present, possibly {@code null}, value
+     * @return a new pipeline which adds a {@link Maybe#map(Function) map} step to this pipeline
+     */
+    public <U> MaybePipeline<T, U> map(final Function<? super R, ? extends U> function) {
+        requireNonNull(function, "function == null");
+        final Stage previous = stage;
+        return new MaybePipeline<>(x -> {
+            final Object value = previous.apply(x);
+            return value == NONE ? NONE : function.apply(cast(value));
+        });
+    }
+
+    /**
+     * Returns a new pipeline which adds an {@link Maybe#or(Maybe) or} step to this pipeline.
+     * 
+     * @param other the {@link Maybe} instance to replace an absent result with
+     * @return a new pipeline which adds an {@link Maybe#or(Maybe) or} step to this pipeline
+     */
+    public MaybePipeline<T, R> or(final Maybe<? extends R> other) {
+        requireNonNull(other, "other == null");
+        final Stage previous = stage;
+        return new MaybePipeline<>(x -> {
+            final Object value = previous.apply(x);
+            return value != NONE ? value : other.isPresent() ? other.orNull() : NONE;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R cast(final Object value) {
+        return (R) value;
+    }
+
+    private static <R> Maybe<R> toMaybe(final Object value) {
+        return value == NONE ? Maybe.absent() : Maybe.of(cast(value));
+    }
+
+    private static <R> R orDefault(final Object value, final R defaultValue) {
+        return value == NONE ? defaultValue : cast(value);
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.stream.Stream;
+
+/**
+ * Static utility methods pertaining to {@link Stream}s of {@link Maybe} instances.
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeStreams {
+
+    private MaybeStreams() {
+    }
+
+    /**
+     * Returns a {@link Stream} of the possibly {@code null} values of the {@link Maybe#isPresent() present} elements of
+     * the specified stream, skipping {@link Maybe#absent() absent} elements. The result is the same as
+     * {@code stream.flatMap(Maybe::stream)}.
+     * 
+     * @implNote Unlike {@link Stream#flatMap(java.util.function.Function) flatMap}, which builds a {@code Stream} for
+     *           every element, this method is implemented as a {@link Stream#filter(java.util.function.Predicate)
+     *           filter} followed by a {@link Stream#map(java.util.function.Function) map}, so each value is passed
+     *           straight to the downstream stage.
+     * 
+     * @param <T>    the type of values
+     * @param stream the stream of {@link Maybe} instances
+     * @return a {@link Stream} of the possibly {@code null} values of the present elements of the specified stream
+     */
+    public static <T> Stream<T> present(final Stream<? extends Maybe<? extends T>> stream) {
+        requireNonNull(stream, "stream == null");
+        return stream.filter(Maybe::isPresent).<T>map(Maybe::orNull);
+    }
+
+}
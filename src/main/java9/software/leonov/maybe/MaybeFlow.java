@@ -0,0 +1,573 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Static factories for {@link Flow} publishers, processors and subscribers which carry {@link Maybe} instances through
+ * reactive pipelines.
+ * <p>
+ * All processors honour backpressure and batch the demand they signal upstream: they request
+ * {@link Flow#defaultBufferSize()} elements up front, buffer them, and replenish three quarters of that amount at a
+ * time as elements are consumed, rather than issuing a {@code request(1)} per element. Elements which an operator
+ * drops, such as {@link Maybe#absent() absent} elements in {@link #filterPresent()}, still count as consumed, so a
+ * filtering operator never stalls its upstream.
+ * <p>
+ * Each processor accepts a single upstream subscription and a single downstream subscriber.
+ * <p>
+ * This class requires Java 9 or later. It is packaged under {@code META-INF/versions/9} of the multi-release jar, so it
+ * is not visible to, and cannot be loaded by, a Java 8 runtime.
+ * 
+ * @author Zhenya Leonov
+ */
+public final class MaybeFlow {
+
+    private static final int PREFETCH = Flow.defaultBufferSize();
+    private static final int LIMIT    = PREFETCH - (PREFETCH >> 2);
+
+    private MaybeFlow() {
+    }
+
+    /**
+     * Returns a {@code Processor} which replaces each {@link Maybe#absent() absent} element with a {@link Maybe}
+     * instance containing the specified default value, and passes all other elements through.
+     * 
+     * @param <T>          the type of values
+     * @param defaultValue the possibly {@code null} default value
+     * @return a {@code Processor} which replaces each {@link Maybe#absent() absent} element with the default value
+     */
+    public static <T> Flow.Processor<Maybe<T>, Maybe<T>> defaultAbsent(final T defaultValue) {
+        final Maybe<T> replacement = Maybe.of(defaultValue);
+        return new Operator<>(maybe -> maybe.isPresent() ? maybe : replacement);
+    }
+
+    /**
+     * Returns a {@code Processor} which drops each {@link Maybe#absent() absent} element and passes
+     * {@link Maybe#isPresent() present} elements, including {@link Maybe#isNull() null} ones, through.
+     * 
+     * @param <T> the type of values
+     * @return a {@code Processor} which drops each {@link Maybe#absent() absent} element
+     */
+    public static <T> Flow.Processor<Maybe<T>, Maybe<T>> filterPresent() {
+        return new Operator<>(maybe -> maybe.isPresent() ? maybe : null);
+    }
+
+    /**
+     * Returns a {@code Publisher} which emits the specified {@link Maybe} instance to each subscriber once, as soon as
+     * it requests any elements, and then completes.
+     * 
+     * @param <T>   the type of values
+     * @param maybe the {@link Maybe} instance to emit
+     * @return a {@code Publisher} which emits the specified {@link Maybe} instance
+     */
+    public static <T> Flow.Publisher<Maybe<T>> just(final Maybe<T> maybe) {
+        requireNonNull(maybe, "maybe == null");
+        return subscriber -> {
+            requireNonNull(subscriber, "subscriber == null");
+            final AtomicBoolean done = new AtomicBoolean();
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                @Override
+                public void request(final long n) {
+                    if (done.compareAndSet(false, true))
+                        if (n <= 0)
+                            subscriber.onError(new IllegalArgumentException("n <= 0"));
+                        else {
+                            subscriber.onNext(maybe);
+                            subscriber.onComplete();
+                        }
+                }
+
+                @Override
+                public void cancel() {
+                    done.set(true);
+                }
+
+            });
+        };
+    }
+
+    /**
+     * Returns a {@code Processor} which {@link Maybe#map(Function) maps} each element with the specified function.
+     * {@link Maybe#absent() Absent} elements pass through unchanged. If the function throws an exception the upstream
+     * subscription is cancelled and the exception is signalled downstream.
+     * 
+     * @param <T>      the type of values
+     * @param <U>      the type of mapped values
+     * @param function the mapping function to apply to each {@link Maybe#isPresent() present} value
+     * @return a {@code Processor} which maps each element with the specified function
+     */
+    public static <T, U> Flow.Processor<Maybe<T>, Maybe<U>> mapPresent(
+            final Function<? super T, ? extends U> function) {
+        requireNonNull(function, "function == null");
+        return new Operator<>(maybe -> maybe.map(function));
+    }
+
+    /**
+     * Returns a {@code Subscriber} which routes each element to one of the specified subscribers according to its
+     * state. An element is only taken from the upstream buffer once its target subscriber has requested it, so a slow
+     * subscriber holds back the others rather than being overrun. Elements for a subscriber which has cancelled are
+     * dropped, and the upstream subscription is cancelled once all three have cancelled.
+     * 
+     * @param <T>     the type of values
+     * @param absent  the subscriber which receives {@link Maybe#absent() absent} elements
+     * @param nulls   the subscriber which receives {@link Maybe#isNull() null} elements
+     * @param present the subscriber which receives {@link Maybe#isPresent() present} non-{@code null} elements
+     * @return a {@code Subscriber} which routes each element to one of the specified subscribers
+     */
+    public static <T> Flow.Subscriber<Maybe<T>> splitByState(final Flow.Subscriber<? super Maybe<T>> absent,
+            final Flow.Subscriber<? super Maybe<T>> nulls, final Flow.Subscriber<? super Maybe<T>> present) {
+        requireNonNull(absent, "absent == null");
+        requireNonNull(nulls, "nulls == null");
+        requireNonNull(present, "present == null");
+        return new Splitter<>(absent, nulls, present);
+    }
+
+    // a single-producer single-consumer ring buffer: onNext is the only producer and the drain loop the only consumer
+    private static final class Buffer<T> {
+
+        private final Object[]   elements;
+        private final int        mask;
+        private final AtomicLong producerIndex = new AtomicLong();
+        private final AtomicLong consumerIndex = new AtomicLong();
+
+        private Buffer(final int capacity) {
+            elements = new Object[Integer.highestOneBit(capacity - 1) << 1];
+            mask     = elements.length - 1;
+        }
+
+        private boolean offer(final T element) {
+            final long p = producerIndex.get();
+            if (p - consumerIndex.get() == elements.length)
+                return false;
+            elements[(int) p & mask] = element;
+            producerIndex.lazySet(p + 1);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T peek() {
+            final long c = consumerIndex.get();
+            return c == producerIndex.get() ? null : (T) elements[(int) c & mask];
+        }
+
+        private void remove() {
+            final long c = consumerIndex.get();
+            elements[(int) c & mask] = null;
+            consumerIndex.lazySet(c + 1);
+        }
+
+        private boolean isEmpty() {
+            return consumerIndex.get() == producerIndex.get();
+        }
+
+        private void clear() {
+            while (!isEmpty())
+                remove();
+        }
+
+    }
+
+    private static void addCapped(final AtomicLong requested, final long n) {
+        requested.getAndAccumulate(n, (r, m) -> r + m < 0 ? Long.MAX_VALUE : r + m);
+    }
+
+    // applies a function to each element, where a null result drops the element
+    private static final class Operator<T, R> implements Flow.Processor<T, R>, Flow.Subscription {
+
+        private final Function<? super T, ? extends R> function;
+
+        private final Buffer<T>                                   buffer     = new Buffer<>(PREFETCH);
+        private final AtomicReference<Flow.Subscription>          upstream   = new AtomicReference<>();
+        private final AtomicReference<Flow.Subscriber<? super R>> downstream = new AtomicReference<>();
+        private final AtomicBoolean                               started    = new AtomicBoolean();
+        private final AtomicLong                                  requested  = new AtomicLong();
+        private final AtomicInteger                               wip        = new AtomicInteger();
+
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private volatile boolean badRequest;
+        private Throwable        error;    // published by the write to done
+        private int              consumed; // accessed by the drain loop only
+
+        private Operator(final Function<? super T, ? extends R> function) {
+            this.function = function;
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super R> subscriber) {
+            requireNonNull(subscriber, "subscriber == null");
+            if (!downstream.compareAndSet(null, subscriber)) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+
+                    @Override
+                    public void request(final long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+
+                });
+                subscriber.onError(new IllegalStateException("only one subscriber is allowed"));
+                return;
+            }
+            subscriber.onSubscribe(this);
+            start();
+            drain();
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            requireNonNull(subscription, "subscription == null");
+            if (!upstream.compareAndSet(null, subscription) || cancelled)
+                subscription.cancel();
+            else
+                start();
+        }
+
+        @Override
+        public void onNext(final T item) {
+            requireNonNull(item, "item == null");
+
+            // fast path: nothing is buffered and there is demand, so emit directly instead of going through the buffer
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                final long r = requested.get();
+                if (r != 0 && buffer.isEmpty() && !cancelled && !badRequest) {
+                    final R result;
+                    try {
+                        result = function.apply(item);
+                    } catch (final Throwable t) {
+                        upstream.get().cancel();
+                        terminate(downstream.get(), t);
+                        return;
+                    }
+                    if (result != null) {
+                        downstream.get().onNext(result);
+                        if (r != Long.MAX_VALUE)
+                            requested.decrementAndGet();
+                    }
+                    replenish();
+                    if (wip.decrementAndGet() == 0)
+                        return;
+                } else
+                    enqueue(item);
+                drainLoop();
+            } else if (enqueue(item))
+                drain();
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            requireNonNull(throwable, "throwable == null");
+            error = throwable;
+            done  = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0)
+                badRequest = true;
+            else
+                addCapped(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled)
+                return;
+            cancelled = true;
+            final Flow.Subscription subscription = upstream.get();
+            if (subscription != null)
+                subscription.cancel();
+            drain();
+        }
+
+        private void start() {
+            if (upstream.get() != null && downstream.get() != null && started.compareAndSet(false, true))
+                upstream.get().request(PREFETCH);
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0)
+                drainLoop();
+        }
+
+        private boolean enqueue(final T item) {
+            if (buffer.offer(item))
+                return true;
+            upstream.get().cancel();
+            onError(new IllegalStateException("upstream emitted more elements than requested"));
+            return false;
+        }
+
+        private void replenish() {
+            if (++consumed == LIMIT) {
+                consumed = 0;
+                upstream.get().request(LIMIT);
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                final Flow.Subscriber<? super R> subscriber = downstream.get();
+                if (subscriber != null) {
+                    final long r = requested.get();
+                    long       e = 0;
+
+                    for (;;) {
+                        if (cancelled) {
+                            buffer.clear();
+                            return;
+                        }
+                        if (badRequest) {
+                            terminate(subscriber, new IllegalArgumentException("n <= 0"));
+                            return;
+                        }
+
+                        final boolean isDone = done;
+                        if (isDone && error != null) {
+                            terminate(subscriber, error);
+                            return;
+                        }
+
+                        final T item = e == r ? null : buffer.peek();
+                        if (item == null) {
+                            if (isDone && buffer.isEmpty()) {
+                                cancelled = true;
+                                subscriber.onComplete();
+                                return;
+                            }
+                            break;
+                        }
+                        buffer.remove();
+                        replenish();
+
+                        final R result;
+                        try {
+                            result = function.apply(item);
+                        } catch (final Throwable t) {
+                            upstream.get().cancel();
+                            terminate(subscriber, t);
+                            return;
+                        }
+                        if (result != null) {
+                            subscriber.onNext(result);
+                            e++;
+                        }
+                    }
+
+                    if (e != 0 && r != Long.MAX_VALUE)
+                        requested.addAndGet(-e);
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        private void terminate(final Flow.Subscriber<? super R> subscriber, final Throwable t) {
+            if (badRequest) {
+                final Flow.Subscription subscription = upstream.get();
+                if (subscription != null)
+                    subscription.cancel();
+            }
+            cancelled = true;
+            buffer.clear();
+            subscriber.onError(t);
+        }
+
+    }
+
+    // routes each element to one of three outlets by state
+    private static final class Splitter<T> implements Flow.Subscriber<Maybe<T>> {
+
+        private final Outlet[]         outlets;
+        private final Buffer<Maybe<T>> buffer = new Buffer<>(PREFETCH);
+        private final AtomicInteger    wip    = new AtomicInteger();
+
+        private volatile Flow.Subscription upstream;
+        private volatile boolean           done;
+        private volatile boolean           terminated;
+        private Throwable                  error;    // published by the write to done
+        private int                        consumed; // accessed by the drain loop only
+
+        private Splitter(final Flow.Subscriber<? super Maybe<T>> absent, final Flow.Subscriber<? super Maybe<T>> nulls,
+                final Flow.Subscriber<? super Maybe<T>> present) {
+            // Outlet is an inner class of a generic class, so an array of it can only be created with the raw type
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            final Outlet[] all = new Splitter.Outlet[] { new Outlet(absent), new Outlet(nulls), new Outlet(present) };
+            outlets = all;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            requireNonNull(subscription, "subscription == null");
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            for (final Outlet outlet : outlets)
+                outlet.subscriber.onSubscribe(outlet);
+            subscription.request(PREFETCH);
+        }
+
+        @Override
+        public void onNext(final Maybe<T> item) {
+            requireNonNull(item, "item == null");
+            if (!buffer.offer(item)) {
+                upstream.cancel();
+                onError(new IllegalStateException("upstream emitted more elements than requested"));
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            requireNonNull(throwable, "throwable == null");
+            error = throwable;
+            done  = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        private Outlet outletFor(final Maybe<T> maybe) {
+            return outlets[!maybe.isPresent() ? 0 : maybe.isNull() ? 1 : 2];
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+
+            int missed = 1;
+            for (;;) {
+                if (terminated) {
+                    buffer.clear();
+                    return;
+                }
+
+                for (final Outlet outlet : outlets)
+                    if (outlet.badRequest && !outlet.cancelled) {
+                        outlet.cancelled = true;
+                        outlet.subscriber.onError(new IllegalArgumentException("n <= 0"));
+                    }
+
+                if (outlets[0].cancelled && outlets[1].cancelled && outlets[2].cancelled) {
+                    terminated = true;
+                    upstream.cancel();
+                    buffer.clear();
+                    return;
+                }
+
+                for (;;) {
+                    final boolean  isDone = done;
+                    final Maybe<T> item   = buffer.peek();
+
+                    if (item == null || isDone && error != null) {
+                        if (isDone && (error != null || buffer.isEmpty())) {
+                            terminated = true;
+                            buffer.clear();
+                            for (final Outlet outlet : outlets)
+                                if (!outlet.cancelled) {
+                                    if (error != null)
+                                        outlet.subscriber.onError(error);
+                                    else
+                                        outlet.subscriber.onComplete();
+                                }
+                            return;
+                        }
+                        break;
+                    }
+
+                    final Outlet outlet = outletFor(item);
+                    if (!outlet.cancelled && outlet.requested.get() == outlet.emitted)
+                        break;
+
+                    buffer.remove();
+                    if (++consumed == LIMIT) {
+                        consumed = 0;
+                        upstream.request(LIMIT);
+                    }
+                    if (!outlet.cancelled) {
+                        outlet.subscriber.onNext(item);
+                        outlet.emitted++;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        private final class Outlet implements Flow.Subscription {
+
+            private final Flow.Subscriber<? super Maybe<T>> subscriber;
+            private final AtomicLong                        requested = new AtomicLong();
+
+            private volatile boolean cancelled;
+            private volatile boolean badRequest;
+            private long             emitted; // accessed by the drain loop only
+
+            private Outlet(final Flow.Subscriber<? super Maybe<T>> subscriber) {
+                this.subscriber = subscriber;
+            }
+
+            @Override
+            public void request(final long n) {
+                if (n <= 0)
+                    badRequest = true;
+                else
+                    addCapped(requested, n);
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                drain();
+            }
+
+        }
+
+    }
+
+}
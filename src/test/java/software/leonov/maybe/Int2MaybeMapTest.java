@@ -0,0 +1,139 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class Int2MaybeMapTest {
+
+    @Test
+    void test_get_states() {
+        final Int2MaybeMap<String> map = new Int2MaybeMap<>();
+        map.put(1, "value");
+        map.put(2, null);
+
+        assertEquals(Maybe.of("value"), map.get(1));
+        assertTrue(map.get(2).isNull());
+        assertFalse(map.get(3).isPresent());
+    }
+
+    @Test
+    void test_zero_and_extreme_keys() {
+        final Int2MaybeMap<String> map = new Int2MaybeMap<>();
+
+        assertFalse(map.get(0).isPresent());
+
+        map.put(0, "zero");
+        map.put(Integer.MIN_VALUE, "min");
+        map.put(Integer.MAX_VALUE, null);
+
+        assertEquals(Maybe.of("zero"), map.get(0));
+        assertEquals(Maybe.of("min"), map.get(Integer.MIN_VALUE));
+        assertTrue(map.get(Integer.MAX_VALUE).isNull());
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void test_put() {
+        final Int2MaybeMap<String> map = new Int2MaybeMap<>();
+
+        assertFalse(map.put(1, null).isPresent());
+        assertTrue(map.put(1, "value").isNull());
+        assertEquals(Maybe.of("value"), map.put(1, "other"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void test_putIfAbsent() {
+        final Int2MaybeMap<String> map = new Int2MaybeMap<>();
+
+        assertFalse(map.putIfAbsent(1, null).isPresent());
+        assertTrue(map.putIfAbsent(1, "value").isNull());
+        assertTrue(map.get(1).isNull());
+    }
+
+    @Test
+    void test_remove() {
+        final Int2MaybeMap<String> map = new Int2MaybeMap<>();
+        map.put(1, null);
+
+        assertTrue(map.remove(1).isNull());
+        assertFalse(map.remove(1).isPresent());
+        assertFalse(map.containsKey(1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void test_getAll() {
+        final Int2MaybeMap<String> map = new Int2MaybeMap<>();
+        map.put(1, "value");
+        map.put(2, null);
+
+        assertEquals(Arrays.asList(Maybe.of("value"), Maybe.of(null), Maybe.absent()), map.getAll(1, 2, 3).asList());
+    }
+
+    @Test
+    void test_clear_and_toString() {
+        final Int2MaybeMap<String> map = new Int2MaybeMap<>();
+        map.put(1, null);
+
+        assertEquals("{1=null}", map.toString());
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.get(1).isPresent());
+        assertEquals("{}", map.toString());
+    }
+
+    @Test
+    void test_forEach_concurrent_modification() {
+        final Int2MaybeMap<String> map = new Int2MaybeMap<>();
+        map.put(1, "value");
+
+        assertThrows(ConcurrentModificationException.class, () -> map.forEach((value, key) -> map.put(key + 1, value)));
+    }
+
+    @Test
+    void test_random_operations_against_hashMap() {
+        final Random                random   = new Random(42);
+        final Map<Integer, Integer> expected = new HashMap<>();
+        final Int2MaybeMap<Integer> map      = new Int2MaybeMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            final int     key   = random.nextInt(1000) - 500;
+            final Integer value = random.nextInt(10) == 0 ? null : random.nextInt();
+
+            switch (random.nextInt(4)) {
+            case 0:
+                assertEquals(Maybe.get(expected, key), map.put(key, value));
+                expected.put(key, value);
+                break;
+            case 1:
+                assertEquals(Maybe.get(expected, key), map.remove(key));
+                expected.remove(key);
+                break;
+            case 2:
+                assertEquals(Maybe.get(expected, key), map.get(key));
+                break;
+            default:
+                assertEquals(expected.containsKey(key), map.containsKey(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        final Map<Integer, Integer> actual = new HashMap<>();
+        map.forEach((value, key) -> actual.put(key, value));
+        assertEquals(expected, actual);
+    }
+
+}
@@ -0,0 +1,215 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+
+/**
+ * Measures the bytes allocated per call by warmed-up {@link Maybe} operations with
+ * {@code com.sun.management.ThreadMXBean} and fails if an operation allocates more than its budget. Operations which
+ * only ever return shared instances must not allocate at all. Operations on present values are allowed the
+ * {@code Maybe} instances they return, since HotSpot does not scalar-replace an allocation which merges with a shared
+ * instance.
+ * <p>
+ * The budgets depend on C2 inlining and escape analysis, which interpreted runs, coverage and debug agents defeat, so
+ * these tests are tagged {@code allocation} and only run with {@code mvn test -Pallocation}.
+ */
+class MaybeAllocationTest {
+
+    private static final int WARMUP     = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private static final Function<String, Integer>      LENGTH   = String::length;
+    private static final Predicate<Integer>             POSITIVE = n -> n > 0;
+    private static final Function<String, String>       TO_NULL  = s -> null;
+    private static final MaybePipeline<String, Integer> PIPELINE = MaybePipeline.<String>identity().map(LENGTH)
+            .filter(POSITIVE);
+
+    private static final String[]   KEYS  = new String[64];
+    private static final TimeUnit[] UNITS = TimeUnit.values();
+
+    private static final Map<String, String>          HASH_MAP       = new HashMap<>();
+    private static final Map<String, String>          CONCURRENT_MAP = new ConcurrentHashMap<>();
+    private static final MaybeHashMap<String, String> MAYBE_MAP      = new MaybeHashMap<>();
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static long                            presentSize;
+    private static long                            sink;
+
+    static {
+        for (int i = 0; i < KEYS.length; i++)
+            KEYS[i] = "key" + i;
+        for (int i = 0; i < KEYS.length; i += 2) {
+            HASH_MAP.put(KEYS[i], "value" + i);
+            CONCURRENT_MAP.put(KEYS[i], "value" + i);
+            MAYBE_MAP.put(KEYS[i], "value" + i);
+        }
+    }
+
+    private static String key(final int i) {
+        return KEYS[i & KEYS.length - 1];
+    }
+
+    // the odd keys are not mapped
+    private static String missing(final int i) {
+        return KEYS[i & KEYS.length - 1 | 1];
+    }
+
+    private static String hit(final int i) {
+        return KEYS[i & KEYS.length - 2];
+    }
+
+    @BeforeAll
+    static void setup() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "com.sun.management.ThreadMXBean is unavailable");
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "thread allocated memory is unsupported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        presentSize = ClassLayout.parseInstance(Maybe.of("value")).instanceSize();
+    }
+
+    // returns the average number of bytes allocated per call, after warming up the operation
+    private static double bytesPerCall(final IntToLongFunction operation) {
+        long sum = 0;
+        for (int i = 0; i < WARMUP; i++)
+            sum += operation.applyAsLong(i);
+
+        final long id     = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < ITERATIONS; i++)
+            sum += operation.applyAsLong(i);
+        final long after = threads.getThreadAllocatedBytes(id);
+
+        sink += sum;
+        return (double) (after - before) / ITERATIONS;
+    }
+
+    private static void assertAllocationFree(final String name, final IntToLongFunction operation) {
+        assertAtMost(name, 0, operation);
+    }
+
+    // allows a fraction of a byte per call for the measurement itself
+    private static void assertAtMost(final String name, final int instances, final IntToLongFunction operation) {
+        final double bytes  = bytesPerCall(operation);
+        final long   budget = instances * presentSize;
+        assertTrue(bytes < budget + 0.5,
+                () -> String.format("%s allocated %.2f bytes per call, budget is %d", name, bytes, budget));
+    }
+
+    @Test
+    @Tag("allocation")
+    void test_shared_instances() {
+        assertAllocationFree("absent()", i -> Maybe.absent().isPresent() ? 1 : 0);
+        assertAllocationFree("of(null)", i -> Maybe.of(null).isNull() ? 1 : 0);
+        assertAllocationFree("of(Boolean)", i -> Maybe.of((i & 1) == 0).get() ? 1 : 0);
+        assertAllocationFree("of(Integer)", i -> Maybe.of(i & 127).get());
+        assertAllocationFree("of(Enum)", i -> Maybe.of(UNITS[i & 3]).get().ordinal());
+    }
+
+    @Test
+    @Tag("allocation")
+    void test_absent_and_null_chains() {
+        assertAllocationFree("absent().map().filter().defaultTo()",
+                i -> Maybe.<String>absent().map(LENGTH).filter(POSITIVE).defaultTo(-1));
+        assertAllocationFree("of(null).map(toNull).ifNull(absent()).isPresent()",
+                i -> Maybe.of((String) null).map(TO_NULL).ifNull(Maybe.absent()).isPresent() ? 1 : 0);
+        assertAllocationFree("absent().toOptional()", i -> Maybe.absent().toOptional().isPresent() ? 1 : 0);
+        assertAllocationFree("absent().hashCode()", i -> Maybe.absent().hashCode());
+    }
+
+    @Test
+    @Tag("allocation")
+    void test_map_misses() {
+        assertAllocationFree("get(HashMap, missing)", i -> Maybe.get(HASH_MAP, missing(i)).map(LENGTH).defaultTo(-1));
+        assertAllocationFree("get(ConcurrentHashMap, missing)",
+                i -> Maybe.get(CONCURRENT_MAP, missing(i)).map(LENGTH).defaultTo(-1));
+        assertAllocationFree("MaybeHashMap.getMaybe(missing)", i -> MAYBE_MAP.getMaybe(missing(i)).isPresent() ? 1 : 0);
+    }
+
+    @Test
+    @Tag("allocation")
+    void test_present_chains() {
+        assertAtMost("of(value).isPresent()", 1, i -> Maybe.of(key(i)).isPresent() ? 1 : 0);
+        assertAtMost("get(HashMap, hit).map().defaultTo()", 1,
+                i -> Maybe.get(HASH_MAP, hit(i)).map(LENGTH).defaultTo(-1));
+        assertAtMost("get(ConcurrentHashMap, hit).map().defaultTo()", 1,
+                i -> Maybe.get(CONCURRENT_MAP, hit(i)).map(LENGTH).defaultTo(-1));
+        assertAtMost("MaybeHashMap.getMaybe(hit)", 1, i -> MAYBE_MAP.getMaybe(hit(i)).isPresent() ? 1 : 0);
+        assertAtMost("of(value).map().filter().defaultTo()", 1,
+                i -> Maybe.of(key(i)).map(LENGTH).filter(POSITIVE).defaultTo(0));
+        assertAtMost("of(value).hashCode()", 1, i -> Maybe.of(key(i)).hashCode());
+    }
+
+    @Test
+    @Tag("allocation")
+    void test_primitive_terminals() {
+        assertAllocationFree("absent().defaultToInt()", i -> Maybe.<String>absent().defaultToInt(String::length, -1));
+        assertAllocationFree("of(Enum).defaultToInt()", i -> Maybe.of(UNITS[i & 3]).defaultToInt(Enum::ordinal, -1));
+        assertAllocationFree("of(Enum).defaultToLong()",
+                i -> Maybe.of(UNITS[i & 3]).defaultToLong(u -> u.toNanos(1), -1));
+        assertAllocationFree("of(Enum).defaultToDouble()",
+                i -> (long) Maybe.of(UNITS[i & 3]).defaultToDouble(u -> u.ordinal() * 0.5, -1));
+    }
+
+    @Test
+    @Tag("allocation")
+    void test_zip() {
+        assertAllocationFree("zip(of(Enum), absent())",
+                i -> Maybe.zip(Maybe.of(UNITS[i & 3]), Maybe.<TimeUnit>absent(), (x, y) -> x).isPresent() ? 1 : 0);
+        assertAllocationFree("zip(of(Enum), of(Enum))",
+                i -> Maybe.zip(Maybe.of(UNITS[i & 3]), Maybe.of(UNITS[i & 1]), (x, y) -> x.ordinal() + y.ordinal())
+                        .get());
+        assertAllocationFree("combineNullable(of(Enum), of(null))",
+                i -> Maybe.combineNullable(Maybe.of(UNITS[i & 3]), Maybe.of(null), (x, y) -> x).isNull() ? 1 : 0);
+    }
+
+    @Test
+    @Tag("allocation")
+    void test_pipeline() {
+        assertAllocationFree("MaybePipeline.defaultTo(value)", i -> PIPELINE.defaultToValue(key(i), -1));
+        assertAllocationFree("MaybePipeline.defaultTo(absent())", i -> PIPELINE.defaultTo(Maybe.absent(), -1));
+    }
+
+    /**
+     * Runs allocation-free operations long enough to exhaust a small heap if they allocated, and checks that the heap
+     * did not grow. Only meaningful under Epsilon GC, which never reclaims memory, so it is run by the {@code epsilon}
+     * Maven profile in a separate JVM.
+     */
+    @Test
+    @Tag("epsilon")
+    void test_epsilon_smoke() {
+        assumeTrue(ManagementFactory.getRuntimeMXBean().getInputArguments().contains("-XX:+UseEpsilonGC"),
+                "not running under Epsilon GC");
+
+        final Runtime runtime = Runtime.getRuntime();
+        final long    before  = runtime.totalMemory() - runtime.freeMemory();
+        long          sum     = 0;
+        for (int i = 0; i < 50_000_000; i++) {
+            sum += Maybe.absent().isPresent() ? 1 : 0;
+            sum += Maybe.of(i & 127).get();
+            sum += Maybe.get(HASH_MAP, missing(i)).map(LENGTH).defaultTo(-1);
+            sum += Maybe.<String>absent().map(LENGTH).filter(POSITIVE).defaultTo(-1);
+            sum += PIPELINE.defaultToValue(key(i), -1);
+        }
+        final long after = runtime.totalMemory() - runtime.freeMemory();
+
+        sink += sum;
+        assertTrue(after - before < 16 << 20, () -> "heap grew by " + (after - before) + " bytes");
+    }
+
+}
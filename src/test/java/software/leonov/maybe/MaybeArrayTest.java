@@ -0,0 +1,123 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+class MaybeArrayTest {
+
+    @Test
+    void test_initially_absent() {
+        final MaybeArray<String> array = new MaybeArray<>(3);
+
+        assertEquals(3, array.length());
+        assertEquals(0, array.countPresent());
+        assertSame(Maybe.absent(), array.get(2));
+    }
+
+    @Test
+    void test_set_setNull_clear() {
+        final MaybeArray<String> array = new MaybeArray<>(100);
+        array.set(1, "value");
+        array.setNull(70);
+
+        assertEquals(Maybe.of("value"), array.get(1));
+        assertTrue(array.isPresent(70));
+        assertTrue(array.isNull(70));
+        assertSame(Maybe.of(null), array.get(70));
+        assertFalse(array.isNull(2));
+        assertEquals(2, array.countPresent());
+
+        array.clear(70);
+
+        assertFalse(array.isPresent(70));
+        assertFalse(array.isNull(70));
+        assertEquals(1, array.countPresent());
+    }
+
+    @Test
+    void test_index_out_of_bounds() {
+        final MaybeArray<String> array = new MaybeArray<>(64);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(64));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.set(-1, "value"));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.clear(64));
+    }
+
+    @Test
+    void test_forEachPresent() {
+        final MaybeArray<String> array = new MaybeArray<>(200);
+        array.set(3, "a");
+        array.setNull(64);
+        array.set(199, "b");
+
+        final List<String> visited = new ArrayList<>();
+        array.forEachPresent((value, i) -> visited.add(i + "=" + value));
+
+        assertEquals(Arrays.asList("3=a", "64=null", "199=b"), visited);
+    }
+
+    @Test
+    void test_asList() {
+        final MaybeArray<String>  array = new MaybeArray<>(3);
+        final List<Maybe<String>> list  = array.asList();
+        list.set(0, Maybe.of("value"));
+        list.set(1, Maybe.of(null));
+
+        assertEquals(Arrays.asList(Maybe.of("value"), Maybe.of(null), Maybe.absent()), list);
+        assertTrue(array.isNull(1));
+        assertEquals(list.hashCode(), array.hashCode());
+        assertEquals("[Maybe[value], Maybe[null], Maybe[]]", array.toString());
+
+        list.set(0, Maybe.absent());
+
+        assertFalse(array.isPresent(0));
+    }
+
+    @Test
+    void test_equals() {
+        final MaybeArray<String> a = new MaybeArray<>(2);
+        final MaybeArray<String> b = new MaybeArray<>(2);
+
+        a.setNull(0);
+
+        assertNotEquals(a, b);
+
+        b.setNull(0);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+    }
+
+    @Test
+    void test_footprint_smaller_than_list() {
+        final int                  length = 100_000;
+        final Integer[]            values = new Integer[length];
+        final MaybeArray<Integer>  array  = new MaybeArray<>(length);
+        final List<Maybe<Integer>> list   = new ArrayList<>(length);
+
+        for (int i = 0; i < length; i++) {
+            values[i] = i + 1000;
+            array.set(i, values[i]);
+            list.add(Maybe.of(values[i]));
+        }
+
+        // exclude the values, which both containers share
+        final GraphLayout shared    = GraphLayout.parseInstance((Object[]) values);
+        final long        arraySize = GraphLayout.parseInstance(array).subtract(shared).totalSize();
+        final long        listSize  = GraphLayout.parseInstance(list).subtract(shared).totalSize();
+
+        assertTrue(listSize >= 3 * arraySize, () -> "list: " + listSize + ", array: " + arraySize);
+    }
+
+}
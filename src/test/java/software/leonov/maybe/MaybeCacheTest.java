@@ -0,0 +1,241 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import software.leonov.maybe.MaybeCollectors.State;
+
+class MaybeCacheTest {
+
+    // "v..." keys have a value, "n..." keys are null and everything else is absent
+    private static final class CountingLoader implements MaybeLoader<String, String> {
+
+        private final AtomicInteger      loads   = new AtomicInteger();
+        private final List<List<String>> batches = new ArrayList<>();
+
+        @Override
+        public Maybe<String> load(final String key) {
+            loads.incrementAndGet();
+            return key.startsWith("v") ? Maybe.of(key.toUpperCase()) : key.startsWith("n") ? Maybe.of(null)
+                    : Maybe.absent();
+        }
+
+        @Override
+        public synchronized MaybeArray<String> loadAll(final List<? extends String> keys) {
+            batches.add(new ArrayList<>(keys));
+            return MaybeLoader.super.loadAll(keys);
+        }
+
+    }
+
+    @Test
+    void test_get_caches_all_states() {
+        final CountingLoader             loader = new CountingLoader();
+        final MaybeCache<String, String> cache  = MaybeCache.builder().build(loader);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Maybe.of("V1"), cache.get("v1"));
+            assertEquals(Maybe.of(null), cache.get("n1"));
+            assertEquals(Maybe.absent(), cache.get("a1"));
+        }
+        assertEquals(3, loader.loads.get());
+        assertEquals(3, cache.size());
+
+        final MaybeCache.Stats stats = cache.stats();
+        assertEquals(3, stats.missCount());
+        assertEquals(6, stats.hitCount());
+        assertEquals(2, stats.hitCount(State.PRESENT));
+        assertEquals(2, stats.hitCount(State.NULL));
+        assertEquals(2, stats.hitCount(State.ABSENT));
+        assertEquals(1, stats.loadCount(State.ABSENT));
+        assertEquals(6 / 9.0, stats.hitRate());
+    }
+
+    @Test
+    void test_expiration_per_state() {
+        final AtomicLong                 time   = new AtomicLong();
+        final CountingLoader             loader = new CountingLoader();
+        final MaybeCache<String, String> cache  = MaybeCache.builder().ticker(time::get)
+                .expireAfterWrite(Duration.ofNanos(100)).expireNullAfterWrite(Duration.ofNanos(50))
+                .expireAbsentAfterWrite(Duration.ofNanos(10)).build(loader);
+
+        cache.get("v1");
+        cache.get("n1");
+        cache.get("a1");
+        assertEquals(3, loader.loads.get());
+
+        time.set(10);
+        cache.get("v1");
+        cache.get("n1");
+        cache.get("a1");
+        assertEquals(4, loader.loads.get());
+
+        time.set(60);
+        cache.get("v1");
+        cache.get("n1");
+        assertEquals(5, loader.loads.get());
+
+        time.set(100);
+        cache.get("v1");
+        assertEquals(6, loader.loads.get());
+    }
+
+    @Test
+    void test_negative_ttl_defaults_to_value_ttl() {
+        final AtomicLong                 time   = new AtomicLong();
+        final CountingLoader             loader = new CountingLoader();
+        final MaybeCache<String, String> cache  = MaybeCache.builder().ticker(time::get)
+                .expireAfterWrite(Duration.ofNanos(100)).build(loader);
+
+        cache.get("a1");
+        time.set(99);
+        cache.get("a1");
+        assertEquals(1, loader.loads.get());
+        time.set(100);
+        cache.get("a1");
+        assertEquals(2, loader.loads.get());
+    }
+
+    @Test
+    void test_zero_ttl_disables_caching() {
+        final CountingLoader             loader = new CountingLoader();
+        final MaybeCache<String, String> cache  = MaybeCache.builder().expireAbsentAfterWrite(Duration.ZERO)
+                .build(loader);
+
+        cache.get("a1");
+        cache.get("a1");
+        cache.get("v1");
+        cache.get("v1");
+        assertEquals(3, loader.loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void test_lru_eviction() {
+        final CountingLoader             loader = new CountingLoader();
+        final MaybeCache<String, String> cache  = MaybeCache.builder().maximumSize(2).concurrencyLevel(1)
+                .build(loader);
+
+        cache.get("v1");
+        cache.get("v2");
+        cache.get("v1");
+        cache.get("v3"); // evicts v2
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.stats().evictionCount());
+
+        cache.get("v1");
+        assertEquals(3, loader.loads.get());
+        cache.get("v2");
+        assertEquals(4, loader.loads.get());
+    }
+
+    @Test
+    void test_maximumSize_is_never_exceeded() {
+        final MaybeCache<String, String> small = MaybeCache.builder().maximumSize(10).build(new CountingLoader());
+        final MaybeCache<String, String> large = MaybeCache.builder().maximumSize(100).build(new CountingLoader());
+
+        for (int i = 0; i < 1000; i++) {
+            small.get("v" + i);
+            large.get("v" + i);
+        }
+        assertTrue(small.size() <= 10);
+        assertTrue(large.size() <= 100);
+    }
+
+    @Test
+    void test_getAll_loads_misses_in_one_batch() {
+        final CountingLoader             loader = new CountingLoader();
+        final MaybeCache<String, String> cache  = MaybeCache.builder().build(loader);
+        cache.get("v1");
+
+        final MaybeArray<String> results = cache.getAll(Arrays.asList("v1", "n1", "a1", "v2"));
+        assertEquals(Arrays.asList(Maybe.of("V1"), Maybe.of(null), Maybe.absent(), Maybe.of("V2")), results.asList());
+        assertEquals(Arrays.asList(Arrays.asList("n1", "a1", "v2")), loader.batches);
+
+        cache.getAll(Arrays.asList("v1", "n1", "a1", "v2"));
+        assertEquals(1, loader.batches.size());
+        assertEquals(4, cache.stats().missCount());
+    }
+
+    @Test
+    void test_put_and_invalidate() {
+        final CountingLoader             loader = new CountingLoader();
+        final MaybeCache<String, String> cache  = MaybeCache.builder().build(loader);
+
+        cache.put("x", null);
+        cache.putAbsent("v1");
+        assertEquals(Maybe.of(null), cache.get("x"));
+        assertEquals(Maybe.absent(), cache.get("v1"));
+        assertEquals(0, loader.loads.get());
+
+        cache.invalidate("v1");
+        assertEquals(Maybe.of("V1"), cache.get("v1"));
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void test_write_during_load_is_not_overwritten() {
+        final AtomicReference<MaybeCache<String, String>> ref   = new AtomicReference<>();
+        final MaybeCache<String, String>                  cache = MaybeCache.builder().concurrencyLevel(1)
+                .build(key -> {
+                    ref.get().put(key, "fresh"); // a write that races with this load
+                    return Maybe.of("stale");
+                });
+        ref.set(cache);
+
+        assertEquals(Maybe.of("stale"), cache.get("k1"));
+        assertEquals(Maybe.of("fresh"), cache.get("k1"));
+
+        assertEquals(Maybe.of("stale"), cache.getAll(Arrays.asList("k2")).get(0));
+        assertEquals(Maybe.of("fresh"), cache.get("k2"));
+    }
+
+    @Test
+    void test_builder_validation() {
+        assertThrows(IllegalArgumentException.class, () -> MaybeCache.builder().maximumSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> MaybeCache.builder().concurrencyLevel(0));
+        assertThrows(IllegalArgumentException.class, () -> MaybeCache.builder().expireAfterWrite(Duration.ofNanos(-1)));
+        assertThrows(NullPointerException.class, () -> MaybeCache.builder().build(null));
+        assertThrows(NullPointerException.class, () -> MaybeCache.builder().build(new CountingLoader()).get(null));
+    }
+
+    @Test
+    void test_concurrent_access() throws Exception {
+        final CountingLoader             loader   = new CountingLoader();
+        final MaybeCache<String, String> cache    = MaybeCache.builder().maximumSize(64).build(loader);
+        final ExecutorService            executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++)
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        final String key = (i % 3 == 0 ? "v" : i % 3 == 1 ? "n" : "a") + i % 100;
+                        assertEquals(loader.load(key), cache.get(key));
+                    }
+                }));
+            for (final Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.size() <= 64);
+        final MaybeCache.Stats stats = cache.stats();
+        assertEquals(40_000, stats.hitCount() + stats.missCount());
+    }
+
+}
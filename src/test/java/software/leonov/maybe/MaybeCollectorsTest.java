@@ -0,0 +1,101 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static software.leonov.maybe.MaybeCollectors.State.ABSENT;
+import static software.leonov.maybe.MaybeCollectors.State.NULL;
+import static software.leonov.maybe.MaybeCollectors.State.PRESENT;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import software.leonov.maybe.MaybeCollectors.State;
+
+class MaybeCollectorsTest {
+
+    // every third element is absent and every fifth null
+    private static List<Maybe<Integer>> maybes(final int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> i % 3 == 0 ? Maybe.<Integer>absent() : Maybe.of(i % 5 == 0 ? null : i))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void test_state_of() {
+        assertEquals(ABSENT, State.of(Maybe.absent()));
+        assertEquals(NULL, State.of(Maybe.of(null)));
+        assertEquals(PRESENT, State.of(Maybe.of(1)));
+    }
+
+    @Test
+    void test_first() {
+        assertTrue(Stream.of(null, "b").collect(MaybeCollectors.first()).isNull());
+        assertEquals(Maybe.of("a"), Stream.of("a", "b").collect(MaybeCollectors.first()));
+        assertEquals(Maybe.absent(), Stream.empty().collect(MaybeCollectors.first()));
+        assertEquals(Maybe.of(0), IntStream.range(0, 100_000).boxed().parallel().collect(MaybeCollectors.first()));
+    }
+
+    @Test
+    void test_last() {
+        assertTrue(Stream.of("a", null).collect(MaybeCollectors.last()).isNull());
+        assertEquals(Maybe.of("b"), Stream.of("a", "b").collect(MaybeCollectors.last()));
+        assertEquals(Maybe.absent(), Stream.empty().collect(MaybeCollectors.last()));
+        assertEquals(Maybe.of(99_999), IntStream.range(0, 100_000).boxed().parallel().collect(MaybeCollectors.last()));
+    }
+
+    @Test
+    void test_only() {
+        assertTrue(Stream.of((Object) null).collect(MaybeCollectors.only()).isNull());
+        assertEquals(Maybe.absent(), Stream.empty().collect(MaybeCollectors.only()));
+        assertThrows(IllegalArgumentException.class, () -> Stream.of("a", "b").collect(MaybeCollectors.only()));
+        assertThrows(IllegalArgumentException.class,
+                () -> IntStream.range(0, 100_000).boxed().parallel().collect(MaybeCollectors.only()));
+    }
+
+    @Test
+    void test_reducing() {
+        final Maybe<Integer> sum = maybes(100_000).parallelStream()
+                .collect(MaybeCollectors.reducing((a, b) -> (a == null ? 0 : a) + (b == null ? 0 : b)));
+
+        assertEquals(maybes(100_000).stream().filter(m -> m.isPresent() && !m.isNull()).mapToInt(Maybe::get).sum(),
+                sum.get());
+        assertEquals(Maybe.absent(),
+                Stream.of(Maybe.<Integer>absent()).collect(MaybeCollectors.reducing(Integer::sum)));
+        assertTrue(Stream.of(Maybe.absent(), Maybe.of(null)).collect(MaybeCollectors.reducing((a, b) -> a)).isNull());
+    }
+
+    @Test
+    void test_toListOfPresent() {
+        assertEquals(Arrays.asList(1, null), Stream.of(Maybe.of(1), Maybe.<Integer>absent(), Maybe.<Integer>of(null))
+                .collect(MaybeCollectors.toListOfPresent()));
+        assertEquals(maybes(100_000).stream().collect(MaybeCollectors.toListOfPresent()),
+                maybes(100_000).parallelStream().collect(MaybeCollectors.toListOfPresent()));
+    }
+
+    @Test
+    void test_partitioningByState() {
+        final Map<State, List<Maybe<Integer>>> partition = maybes(100_000).parallelStream()
+                .collect(MaybeCollectors.partitioningByState());
+
+        assertEquals(maybes(100_000).stream().collect(Collectors.groupingBy(State::of)), partition);
+        assertEquals(Collections.emptyList(),
+                Stream.<Maybe<Integer>>empty().collect(MaybeCollectors.partitioningByState()).get(NULL));
+    }
+
+    @Test
+    void test_countingByState() {
+        final Map<State, Long> counts = maybes(100_000).parallelStream().collect(MaybeCollectors.countingByState());
+
+        assertEquals(maybes(100_000).stream().collect(Collectors.groupingBy(State::of, Collectors.counting())), counts);
+        assertEquals(0L, Stream.<Maybe<?>>empty().collect(MaybeCollectors.countingByState()).get(ABSENT));
+    }
+
+}
@@ -0,0 +1,73 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+
+import org.junit.jupiter.api.Test;
+
+class MaybeDoubleTest {
+
+    @Test
+    void test_absent() {
+        final MaybeDouble absent = MaybeDouble.absent();
+
+        assertFalse(absent.isPresent());
+        assertEquals(7.5, absent.defaultTo(7.5));
+        assertThrows(NoSuchElementException.class, absent::get);
+    }
+
+    @Test
+    void test_of_isPresent() {
+        final MaybeDouble present = MaybeDouble.of(0.5);
+
+        assertTrue(present.isPresent());
+        assertEquals(0.5, present.get());
+    }
+
+    @Test
+    void test_of_cached() {
+        assertSame(MaybeDouble.of(1.0), MaybeDouble.of(1.0));
+        assertSame(MaybeDouble.of(-128.0), MaybeDouble.of(-128.0));
+        assertNotSame(MaybeDouble.of(0.0), MaybeDouble.of(-0.0));
+        assertNotEquals(MaybeDouble.of(0.0), MaybeDouble.of(-0.0));
+        assertEquals(MaybeDouble.of(Double.NaN), MaybeDouble.of(Double.NaN));
+    }
+
+    @Test
+    void test_map_filter() {
+        assertEquals(MaybeDouble.of(1.0), MaybeDouble.of(0.5).map(d -> d * 2));
+        assertFalse(MaybeDouble.of(0.5).filter(d -> d > 1).isPresent());
+        assertFalse(MaybeDouble.absent().map(d -> d * 2).isPresent());
+    }
+
+    @Test
+    void test_mapToObj_mapToInt_mapToLong() {
+        assertEquals(Maybe.of("0.5"), MaybeDouble.of(0.5).mapToObj(Double::toString));
+        assertEquals(MaybeInt.of(2), MaybeDouble.of(2.5).mapToInt(d -> (int) d));
+        assertEquals(MaybeLong.of(2L), MaybeDouble.of(2.5).mapToLong(d -> (long) d));
+        assertEquals(MaybeDouble.of(5.0), Maybe.of("Hello").mapToDouble(String::length));
+    }
+
+    @Test
+    void test_stream_toOptional() {
+        assertEquals(0.5, MaybeDouble.of(0.5).stream().sum());
+        assertEquals(OptionalDouble.of(0.5), MaybeDouble.of(0.5).toOptional());
+        assertEquals(OptionalDouble.empty(), MaybeDouble.absent().toOptional());
+    }
+
+    @Test
+    void test_equals_hashCode_toString() {
+        assertEquals(MaybeDouble.of(0.5).hashCode(), MaybeDouble.of(0.5).hashCode());
+        assertNotEquals(MaybeDouble.of(0.0), MaybeDouble.absent());
+        assertEquals("MaybeDouble[0.5]", MaybeDouble.of(0.5).toString());
+        assertEquals("MaybeDouble[]", MaybeDouble.absent().toString());
+    }
+}
@@ -0,0 +1,182 @@
+package software.leonov.maybe;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class MaybeFuturesTest {
+
+    private static final Executor REJECTING = task -> {
+        throw new AssertionError("unexpected task");
+    };
+
+    @Test
+    void test_map_and_filter() {
+        final CompletableFuture<Maybe<String>>  future   = new CompletableFuture<>();
+        final CompletableFuture<Maybe<Integer>> mapped   = MaybeFutures.map(future, String::length);
+        final CompletableFuture<Maybe<String>>  filtered = MaybeFutures.filter(future, s -> s.isEmpty());
+
+        future.complete(Maybe.of("abc"));
+
+        assertEquals(Maybe.of(3), mapped.join());
+        assertFalse(filtered.join().isPresent());
+        assertTrue(MaybeFutures.map(completedFuture(Maybe.<String>of(null)), String::valueOf).join().isPresent());
+    }
+
+    @Test
+    void test_mapAsync() {
+        final CompletableFuture<Maybe<String>> future = completedFuture(Maybe.of("abc"));
+
+        assertEquals(Maybe.of(3), MaybeFutures.mapAsync(future, String::length, Runnable::run).join());
+        assertEquals(Maybe.of(3), MaybeFutures.mapAsync(future, String::length).join());
+        assertFalse(MaybeFutures.mapAsync(completedFuture(Maybe.<String>absent()), String::length).join().isPresent());
+    }
+
+    @Test
+    void test_mapAsync_absent_skips_executor() {
+        final CompletableFuture<Maybe<String>>  pending = new CompletableFuture<>();
+        final CompletableFuture<Maybe<Integer>> mapped  = MaybeFutures.mapAsync(pending, String::length, REJECTING);
+
+        pending.complete(Maybe.absent());
+
+        assertFalse(mapped.join().isPresent());
+        assertFalse(MaybeFutures.mapAsync(completedFuture(Maybe.<String>absent()), String::length, REJECTING).join()
+                .isPresent());
+    }
+
+    @Test
+    void test_or() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertTrue(MaybeFutures.or(completedFuture(Maybe.<String>of(null)), () -> {
+            calls.incrementAndGet();
+            return completedFuture(Maybe.of("other"));
+        }).join().isNull());
+        assertEquals(0, calls.get());
+        assertEquals(Maybe.of("other"), MaybeFutures
+                .or(completedFuture(Maybe.<String>absent()), () -> completedFuture(Maybe.of("other"))).join());
+    }
+
+    @Test
+    void test_orElseGetAsync() {
+        final CompletableFuture<Maybe<String>> nul    = completedFuture(Maybe.of(null));
+        final CompletableFuture<Maybe<String>> absent = completedFuture(Maybe.absent());
+
+        assertNull(MaybeFutures.orElseGetAsync(nul, () -> "default", REJECTING).join());
+        assertEquals("default", MaybeFutures.orElseGetAsync(absent, () -> "default").join());
+    }
+
+    @Test
+    void test_zip() {
+        final CompletableFuture<Maybe<String>>  first  = new CompletableFuture<>();
+        final CompletableFuture<Maybe<Integer>> second = new CompletableFuture<>();
+        final CompletableFuture<Maybe<String>>  zipped = MaybeFutures.zip(first, second, (s, i) -> s + i);
+
+        first.complete(Maybe.of(null));
+        second.complete(Maybe.of(1));
+
+        assertEquals(Maybe.of("null1"), zipped.join());
+    }
+
+    @Test
+    void test_zip_absent_does_not_wait() {
+        final CompletableFuture<Maybe<String>>  first  = new CompletableFuture<>();
+        final CompletableFuture<Maybe<Integer>> second = new CompletableFuture<>();
+        final CompletableFuture<Maybe<String>>  zipped = MaybeFutures.zip(first, second, (s, i) -> s + i);
+
+        second.complete(Maybe.absent());
+
+        assertTrue(zipped.isDone());
+        assertFalse(zipped.join().isPresent());
+    }
+
+    @Test
+    void test_zip_exceptional() {
+        final CompletableFuture<Maybe<String>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+
+        assertThrows(CompletionException.class,
+                () -> MaybeFutures.zip(failed, completedFuture(Maybe.of(1)), (s, i) -> s + i).join());
+    }
+
+    @Test
+    void test_allOf() {
+        final CompletableFuture<Maybe<Integer>>       pending = new CompletableFuture<>();
+        final CompletableFuture<Maybe<List<Integer>>> all     = MaybeFutures
+                .allOf(Arrays.asList(completedFuture(Maybe.of(1)), pending, completedFuture(Maybe.<Integer>of(null))));
+
+        assertFalse(all.isDone());
+
+        pending.complete(Maybe.of(2));
+
+        assertEquals(Maybe.of(Arrays.asList(1, 2, null)), all.join());
+    }
+
+    @Test
+    void test_allOf_absent_does_not_wait() {
+        final CompletableFuture<Maybe<Integer>>       pending = new CompletableFuture<>();
+        final CompletableFuture<Maybe<Integer>>       absent  = new CompletableFuture<>();
+        final CompletableFuture<Maybe<List<Integer>>> all     = MaybeFutures.allOf(Arrays.asList(pending, absent));
+
+        absent.complete(Maybe.absent());
+
+        assertFalse(all.join().isPresent());
+        assertFalse(MaybeFutures.allOf(Arrays.asList(pending, completedFuture(Maybe.<Integer>absent()))).join()
+                .isPresent());
+    }
+
+    @Test
+    void test_anyPresent() {
+        final CompletableFuture<Maybe<Integer>> pending = new CompletableFuture<>();
+        final CompletableFuture<Maybe<Integer>> any     = MaybeFutures
+                .anyPresent(Arrays.asList(completedFuture(Maybe.absent()), pending));
+
+        assertFalse(any.isDone());
+
+        pending.complete(Maybe.of(null));
+
+        assertTrue(any.join().isNull());
+        assertFalse(MaybeFutures.anyPresent(Arrays.asList(completedFuture(Maybe.<Integer>absent()))).join()
+                .isPresent());
+    }
+
+    @Test
+    void test_anyPresent_exceptional() {
+        final CompletableFuture<Maybe<Integer>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+
+        assertThrows(CompletionException.class,
+                () -> MaybeFutures.anyPresent(Arrays.asList(failed, completedFuture(Maybe.<Integer>absent()))).join());
+        assertEquals(Maybe.of(1),
+                MaybeFutures.anyPresent(Arrays.asList(failed, completedFuture(Maybe.of(1)))).join());
+    }
+
+    @Test
+    void test_virtualThreadExecutor() throws InterruptedException {
+        final Maybe<Executor> executor = MaybeFutures.virtualThreadExecutor();
+
+        assertSame(executor, MaybeFutures.virtualThreadExecutor());
+
+        if (executor.isPresent()) {
+            final CountDownLatch latch = new CountDownLatch(1);
+            executor.get().execute(latch::countDown);
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+class MaybeHashMapTest {
+
+    @Test
+    void test_getMaybe_states() {
+        final MaybeHashMap<String, String> map = new MaybeHashMap<>();
+        map.put("key", "value");
+        map.put("null", null);
+
+        assertEquals(Maybe.of("value"), map.getMaybe("key"));
+        assertTrue(map.getMaybe("null").isNull());
+        assertFalse(map.getMaybe("unknown").isPresent());
+    }
+
+    @Test
+    void test_null_key() {
+        final MaybeHashMap<String, String> map = new MaybeHashMap<>();
+
+        assertFalse(map.getMaybe(null).isPresent());
+
+        map.put(null, "value");
+
+        assertTrue(map.containsKey(null));
+        assertEquals("value", map.get(null));
+        assertEquals(Maybe.of("value"), map.removeMaybe(null));
+        assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    void test_maybe_get_uses_getMaybe() {
+        final Map<String, String> map = new MaybeHashMap<>();
+        map.put("null", null);
+
+        assertTrue(Maybe.get(map, "null").isNull());
+        assertFalse(Maybe.get(map, "unknown").isPresent());
+    }
+
+    @Test
+    void test_putIfAbsentMaybe() {
+        final MaybeHashMap<String, String> map = new MaybeHashMap<>();
+
+        assertFalse(map.putIfAbsentMaybe("key", null).isPresent());
+        assertTrue(map.putIfAbsentMaybe("key", "value").isNull());
+        assertNull(map.get("key"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void test_removeMaybe() {
+        final MaybeHashMap<String, String> map = new MaybeHashMap<>();
+        map.put("null", null);
+
+        assertTrue(map.removeMaybe("null").isNull());
+        assertFalse(map.removeMaybe("null").isPresent());
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void test_computeMaybe() {
+        final MaybeHashMap<String, Integer> map = new MaybeHashMap<>();
+
+        assertTrue(map.computeMaybe("key", (k, v) -> Maybe.of(null)).isNull());
+        assertTrue(map.containsKey("key"));
+
+        assertEquals(Maybe.of(1), map.computeMaybe("key", (k, v) -> v.isNull() ? Maybe.of(1) : Maybe.absent()));
+        assertEquals(1, map.get("key"));
+
+        assertFalse(map.computeMaybe("key", (k, v) -> Maybe.absent()).isPresent());
+        assertFalse(map.containsKey("key"));
+
+        assertFalse(map.computeMaybe("other", (k, v) -> v).isPresent());
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void test_computeMaybe_concurrent_modification() {
+        final MaybeHashMap<String, String> map = new MaybeHashMap<>();
+
+        assertThrows(ConcurrentModificationException.class, () -> map.computeMaybe("key", (k, v) -> {
+            map.put("other", "value");
+            return Maybe.of("value");
+        }));
+    }
+
+    @Test
+    void test_iterator_remove_and_setValue() {
+        final MaybeHashMap<Integer, String> map = new MaybeHashMap<>();
+        for (int i = 0; i < 100; i++)
+            map.put(i, "value" + i);
+
+        for (final Iterator<Map.Entry<Integer, String>> itor = map.entrySet().iterator(); itor.hasNext();) {
+            final Map.Entry<Integer, String> entry = itor.next();
+            if (entry.getKey() % 2 == 0)
+                itor.remove();
+            else
+                entry.setValue(null);
+        }
+
+        assertEquals(50, map.size());
+        assertFalse(map.containsKey(0));
+        assertTrue(map.getMaybe(1).isNull());
+    }
+
+    @Test
+    void test_equals_hashMap() {
+        final Map<String, String> expected = new HashMap<>();
+        expected.put("key", "value");
+        expected.put("null", null);
+        expected.put(null, "value");
+
+        final Map<String, String> map = new MaybeHashMap<>(expected);
+
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    void test_random_operations_against_hashMap() {
+        final Random                         random   = new Random(42);
+        final Map<Integer, Integer>          expected = new HashMap<>();
+        final MaybeHashMap<Integer, Integer> map      = new MaybeHashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            final Integer key   = random.nextInt(1000);
+            final Integer value = random.nextInt(10) == 0 ? null : random.nextInt();
+
+            switch (random.nextInt(4)) {
+            case 0:
+                assertEquals(expected.put(key, value), map.put(key, value));
+                break;
+            case 1:
+                assertEquals(expected.remove(key), map.remove(key));
+                break;
+            case 2:
+                assertEquals(Maybe.get(expected, key), map.getMaybe(key));
+                break;
+            default:
+                assertEquals(expected.containsKey(key), map.containsKey(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        assertEquals(expected, map);
+    }
+
+    // returns the retained sizes of a MaybeHashMap and a HashMap holding the same mappings
+    private static long[] footprints(final int size) {
+        final Map<Integer, Integer> hashMap  = new HashMap<>();
+        final Map<Integer, Integer> maybeMap = new MaybeHashMap<>();
+        for (int i = 0; i < size; i++) {
+            final Integer key = i + 1000; // both maps reference the same key and value instances
+            hashMap.put(key, key);
+            maybeMap.put(key, key);
+        }
+        return new long[] { GraphLayout.parseInstance(maybeMap).totalSize(),
+                GraphLayout.parseInstance(hashMap).totalSize() };
+    }
+
+    @Test
+    void test_footprint_compared_to_hashMap() {
+        // both sides of the resizes at 512 and 1024 mappings
+        for (final int size : new int[] { 384, 385, 512, 513, 768, 769, 1024, 1025 }) {
+            final long[] footprints = footprints(size);
+            assertTrue(footprints[0] < footprints[1] * 1.2, "larger than 120% of a HashMap at " + size + " mappings");
+        }
+
+        long[] footprints = footprints(1024); // just before a resize
+        assertTrue(footprints[0] < footprints[1] * 0.8);
+        footprints = footprints(1025); // just after a resize
+        assertTrue(footprints[0] > footprints[1]);
+    }
+}
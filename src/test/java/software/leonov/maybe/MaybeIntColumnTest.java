@@ -0,0 +1,135 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class MaybeIntColumnTest {
+
+    @Test
+    void test_get_states() {
+        final MaybeIntColumn column = new MaybeIntColumn().append(42).appendNull().appendAbsent(1);
+
+        assertEquals(3, column.size());
+        assertEquals(Maybe.of(42), column.get(0));
+        assertTrue(column.get(1).isNull());
+        assertFalse(column.get(2).isPresent());
+    }
+
+    @Test
+    void test_getInt() {
+        final MaybeIntColumn column = new MaybeIntColumn().append(42).appendNull().appendAbsent(1);
+
+        assertEquals(MaybeInt.of(42), column.getInt(0));
+        assertFalse(column.getInt(1).isPresent());
+        assertFalse(column.getInt(2).isPresent());
+        assertTrue(column.isPresent(1));
+        assertTrue(column.isNull(1));
+        assertFalse(column.isPresent(2));
+    }
+
+    @Test
+    void test_append_maybe() {
+        final MaybeIntColumn column = new MaybeIntColumn();
+        column.append(Maybe.of(7)).append(Maybe.of(null)).append(Maybe.absent());
+
+        assertEquals(Maybe.of(7), column.get(0));
+        assertTrue(column.get(1).isNull());
+        assertFalse(column.get(2).isPresent());
+    }
+
+    @Test
+    void test_index_out_of_bounds() {
+        final MaybeIntColumn column = new MaybeIntColumn().append(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.slice(0, 2));
+    }
+
+    @Test
+    void test_slice() {
+        final MaybeIntColumn column = new MaybeIntColumn();
+        for (int i = 0; i < 200; i++)
+            column.append(i);
+        column.appendNull();
+
+        final MaybeIntColumn slice = column.slice(70, 201);
+
+        assertEquals(131, slice.size());
+        assertEquals(Maybe.of(70), slice.get(0));
+        assertTrue(slice.get(130).isNull());
+        assertEquals(130, slice.countValues());
+        assertEquals(Maybe.of(75), slice.slice(3, 10).get(2));
+        assertThrows(UnsupportedOperationException.class, () -> slice.append(1));
+    }
+
+    @Test
+    void test_forEachValue() {
+        final MaybeIntColumn column = new MaybeIntColumn().append(1).appendNull().appendAbsent(100).append(2).append(3);
+        final List<Integer>  values = new ArrayList<>();
+
+        column.forEachValue(values::add);
+        assertEquals(Arrays.asList(1, 2, 3), values);
+
+        values.clear();
+        column.slice(102, 104).forEachValue(values::add);
+        assertEquals(Arrays.asList(2, 3), values);
+    }
+
+    @Test
+    void test_random_rows_against_list() {
+        final Random               random   = new Random(42);
+        final List<Maybe<Integer>> expected = new ArrayList<>();
+        final MaybeIntColumn       column   = new MaybeIntColumn(0);
+
+        for (int i = 0; i < 5_000; i++) {
+            switch (random.nextInt(5)) {
+            case 0:
+                column.appendNull();
+                expected.add(Maybe.of(null));
+                break;
+            case 1:
+                final int count = random.nextInt(100);
+                column.appendAbsent(count);
+                for (int j = 0; j < count; j++)
+                    expected.add(Maybe.absent());
+                break;
+            case 2:
+                final int[] values = random.ints(random.nextInt(100)).toArray();
+                column.appendAll(values);
+                for (final int value : values)
+                    expected.add(Maybe.of(value));
+                break;
+            case 3:
+                final int from = random.nextInt(column.size() + 1);
+                final int to   = from + random.nextInt(Math.min(column.size() - from, 200) + 1);
+                column.appendAll(column.slice(from, to));
+                expected.addAll(new ArrayList<>(expected.subList(from, to)));
+                break;
+            default:
+                final int value = random.nextInt();
+                column.append(value);
+                expected.add(Maybe.of(value));
+            }
+        }
+
+        assertEquals(expected.size(), column.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertEquals(expected.get(i), column.get(i));
+
+        final List<Maybe<Integer>> rows  = expected.subList(expected.size() / 3, expected.size() - 17);
+        final MaybeIntColumn       slice = column.slice(expected.size() / 3, expected.size() - 17);
+        assertEquals(rows.stream().filter(Maybe::isPresent).count(), slice.countPresent());
+        assertEquals(rows.stream().filter(Maybe::isNull).count(), slice.countNull());
+    }
+
+}
@@ -0,0 +1,118 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+class MaybeIntTest {
+
+    @Test
+    void test_absent() {
+        final MaybeInt absent = MaybeInt.absent();
+
+        assertFalse(absent.isPresent());
+        assertEquals(7, absent.defaultTo(7));
+        assertThrows(NoSuchElementException.class, absent::get);
+    }
+
+    @Test
+    void test_of_isPresent() {
+        final MaybeInt present = MaybeInt.of(42);
+
+        assertTrue(present.isPresent());
+        assertEquals(42, present.get());
+        assertEquals(42, present.defaultTo(7));
+    }
+
+    @Test
+    void test_of_cached() {
+        assertSame(MaybeInt.of(-128), MaybeInt.of(-128));
+        assertSame(MaybeInt.of(127), MaybeInt.of(127));
+        assertNotSame(MaybeInt.of(128), MaybeInt.of(128));
+        assertEquals(MaybeInt.of(128), MaybeInt.of(128));
+    }
+
+    @Test
+    void test_map() {
+        assertEquals(MaybeInt.of(84), MaybeInt.of(42).map(i -> i * 2));
+        assertFalse(MaybeInt.absent().map(i -> i * 2).isPresent());
+    }
+
+    @Test
+    void test_filter() {
+        assertTrue(MaybeInt.of(42).filter(i -> i > 0).isPresent());
+        assertFalse(MaybeInt.of(42).filter(i -> i < 0).isPresent());
+    }
+
+    @Test
+    void test_mapToObj() {
+        assertEquals(Maybe.of("42"), MaybeInt.of(42).mapToObj(Integer::toString));
+        assertTrue(MaybeInt.of(42).mapToObj(i -> null).isNull());
+        assertFalse(MaybeInt.absent().mapToObj(Integer::toString).isPresent());
+    }
+
+    @Test
+    void test_mapToLong_mapToDouble() {
+        assertEquals(MaybeLong.of(42L), MaybeInt.of(42).mapToLong(i -> i));
+        assertEquals(MaybeDouble.of(42.0), MaybeInt.of(42).mapToDouble(i -> i));
+        assertFalse(MaybeInt.absent().mapToLong(i -> i).isPresent());
+    }
+
+    @Test
+    void test_maybe_mapToInt() {
+        assertEquals(MaybeInt.of(5), Maybe.of("Hello").mapToInt(String::length));
+        assertEquals(MaybeInt.of(0), Maybe.<String>of(null).mapToInt(s -> s == null ? 0 : s.length()));
+        assertFalse(Maybe.<String>absent().mapToInt(String::length).isPresent());
+    }
+
+    @Test
+    void test_ifPresent_otherwise() {
+        final StringBuilder result = new StringBuilder();
+
+        MaybeInt.of(42).ifPresent(result::append).otherwise(() -> result.append("absent"));
+        MaybeInt.absent().ifPresent(result::append).otherwise(() -> result.append("absent"));
+
+        assertEquals("42absent", result.toString());
+    }
+
+    @Test
+    void test_or_orElseGet_orElseThrow() {
+        assertEquals(MaybeInt.of(1), MaybeInt.absent().or(MaybeInt.of(1)));
+        assertEquals(1, MaybeInt.absent().orElseGet(() -> 1));
+        assertThrows(IllegalStateException.class, () -> MaybeInt.absent().orElseThrow(IllegalStateException::new));
+    }
+
+    @Test
+    void test_stream() {
+        assertEquals(42, MaybeInt.of(42).stream().sum());
+        assertEquals(0, MaybeInt.absent().stream().count());
+    }
+
+    @Test
+    void test_toOptional() {
+        assertEquals(OptionalInt.of(42), MaybeInt.of(42).toOptional());
+        assertEquals(OptionalInt.empty(), MaybeInt.absent().toOptional());
+    }
+
+    @Test
+    void test_equals_hashCode() {
+        assertEquals(MaybeInt.of(1000), MaybeInt.of(1000));
+        assertEquals(MaybeInt.of(1000).hashCode(), MaybeInt.of(1000).hashCode());
+        assertNotEquals(MaybeInt.of(0), MaybeInt.absent());
+    }
+
+    @Test
+    void test_toString() {
+        assertEquals("MaybeInt[42]", MaybeInt.of(42).toString());
+        assertEquals("MaybeInt[]", MaybeInt.absent().toString());
+    }
+}
@@ -0,0 +1,41 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.vm.VM;
+import org.openjdk.jol.vm.VirtualMachine;
+
+class MaybeLayoutTest {
+
+    @BeforeAll
+    static void assume_compressed_oops() {
+        final VirtualMachine vm = VM.current();
+
+        // a 12 byte header plus a 4 byte reference is only possible with compressed oops and class pointers
+        assumeTrue(vm.objectHeaderSize() == 12 && vm.sizeOfField("java.lang.Object") == 4 && vm.objectAlignment() == 8);
+    }
+
+    @Test
+    void test_instance_size() {
+        assertEquals(16, ClassLayout.parseClass(Maybe.of("Hello").getClass()).instanceSize());
+    }
+
+    @Test
+    void test_present_instance_size() {
+        assertEquals(16, ClassLayout.parseInstance(Maybe.of("Hello")).instanceSize());
+    }
+
+    @Test
+    void test_absent_instance_size() {
+        assertEquals(16, ClassLayout.parseInstance(Maybe.absent()).instanceSize());
+    }
+
+    @Test
+    void test_null_instance_size() {
+        assertEquals(16, ClassLayout.parseInstance(Maybe.of(null)).instanceSize());
+    }
+}
@@ -0,0 +1,69 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+class MaybeLongTest {
+
+    @Test
+    void test_absent() {
+        final MaybeLong absent = MaybeLong.absent();
+
+        assertFalse(absent.isPresent());
+        assertEquals(7L, absent.defaultTo(7L));
+        assertThrows(NoSuchElementException.class, absent::get);
+    }
+
+    @Test
+    void test_of_isPresent() {
+        final MaybeLong present = MaybeLong.of(Long.MAX_VALUE);
+
+        assertTrue(present.isPresent());
+        assertEquals(Long.MAX_VALUE, present.get());
+    }
+
+    @Test
+    void test_of_cached() {
+        assertSame(MaybeLong.of(-128L), MaybeLong.of(-128L));
+        assertSame(MaybeLong.of(127L), MaybeLong.of(127L));
+        assertEquals(MaybeLong.of(1L << 40), MaybeLong.of(1L << 40));
+    }
+
+    @Test
+    void test_map_filter() {
+        assertEquals(MaybeLong.of(84L), MaybeLong.of(42L).map(l -> l * 2));
+        assertFalse(MaybeLong.of(42L).filter(l -> l < 0).isPresent());
+        assertFalse(MaybeLong.absent().map(l -> l * 2).isPresent());
+    }
+
+    @Test
+    void test_mapToObj_mapToInt() {
+        assertEquals(Maybe.of("42"), MaybeLong.of(42L).mapToObj(Long::toString));
+        assertEquals(MaybeInt.of(42), MaybeLong.of(42L).mapToInt(l -> (int) l));
+        assertEquals(MaybeLong.of(5L), Maybe.of("Hello").mapToLong(String::length));
+    }
+
+    @Test
+    void test_stream_toOptional() {
+        assertEquals(42L, MaybeLong.of(42L).stream().sum());
+        assertEquals(OptionalLong.of(42L), MaybeLong.of(42L).toOptional());
+        assertEquals(OptionalLong.empty(), MaybeLong.absent().toOptional());
+    }
+
+    @Test
+    void test_equals_hashCode_toString() {
+        assertEquals(MaybeLong.of(1000L).hashCode(), MaybeLong.of(1000L).hashCode());
+        assertNotEquals(MaybeLong.of(0L), MaybeLong.absent());
+        assertEquals("MaybeLong[42]", MaybeLong.of(42L).toString());
+        assertEquals("MaybeLong[]", MaybeLong.absent().toString());
+    }
+}
@@ -0,0 +1,100 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+class MaybePipelineTest {
+
+    private static final List<Maybe<String>> INPUTS = Arrays.asList(Maybe.absent(), Maybe.of(null), Maybe.of(""),
+            Maybe.of("a"), Maybe.of("abc"));
+
+    private static void assertMatches(final MaybePipeline<String, ?> pipeline,
+            final Function<Maybe<String>, Maybe<?>> chain) {
+        for (final Maybe<String> input : INPUTS) {
+            assertEquals(chain.apply(input), pipeline.apply(input), input.toString());
+            if (input.isPresent())
+                assertEquals(chain.apply(input), pipeline.applyValue(input.orNull()), input.toString());
+        }
+    }
+
+    @Test
+    void test_identity() {
+        assertMatches(MaybePipeline.identity(), input -> input);
+    }
+
+    @Test
+    void test_map() {
+        assertMatches(MaybePipeline.<String>identity().map(s -> s == null ? -1 : s.length()),
+                input -> input.map(s -> s == null ? -1 : s.length()));
+    }
+
+    @Test
+    void test_map_to_null() {
+        assertMatches(MaybePipeline.<String>identity().map(s -> null), input -> input.map(s -> null));
+    }
+
+    @Test
+    void test_filter() {
+        assertMatches(MaybePipeline.<String>identity().filter(s -> s == null || s.length() > 1),
+                input -> input.filter(s -> s == null || s.length() > 1));
+    }
+
+    @Test
+    void test_ifNull() {
+        assertMatches(MaybePipeline.<String>identity().ifNull(Maybe.of("x")), input -> input.ifNull(Maybe.of("x")));
+        assertMatches(MaybePipeline.<String>identity().ifNull(Maybe.absent()), input -> input.ifNull(Maybe.absent()));
+    }
+
+    @Test
+    void test_or() {
+        assertMatches(MaybePipeline.<String>identity().or(Maybe.of(null)), input -> input.or(Maybe.of(null)));
+        assertMatches(MaybePipeline.<String>identity().or(Maybe.absent()), input -> input.or(Maybe.absent()));
+    }
+
+    @Test
+    void test_chain() {
+        final MaybePipeline<String, Integer> pipeline = MaybePipeline.<String>identity().ifNull(Maybe.of("null"))
+                .filter(s -> !s.isEmpty()).map(String::length).map(n -> n * 10).or(Maybe.of(0));
+        assertMatches(pipeline, input -> input.ifNull(Maybe.of("null")).filter(s -> !s.isEmpty()).map(String::length)
+                .map(n -> n * 10).or(Maybe.of(0)));
+    }
+
+    @Test
+    void test_defaultTo() {
+        final MaybePipeline<String, Integer> pipeline = MaybePipeline.<String>identity().filter(s -> s != null)
+                .map(String::length);
+        assertEquals(Integer.valueOf(3), pipeline.defaultTo(Maybe.of("abc"), -1));
+        assertEquals(Integer.valueOf(-1), pipeline.defaultTo(Maybe.of(null), -1));
+        assertEquals(Integer.valueOf(-1), pipeline.defaultTo(Maybe.absent(), -1));
+        assertEquals(Integer.valueOf(1), pipeline.defaultToValue("a", -1));
+        assertNull(MaybePipeline.<String>identity().defaultToValue(null, "x"));
+    }
+
+    @Test
+    void test_steps_do_not_modify_pipeline() {
+        final MaybePipeline<String, String> base = MaybePipeline.identity();
+        base.map(String::length);
+        base.filter(s -> false);
+        assertSame(base, MaybePipeline.identity());
+        assertEquals(Maybe.of("a"), base.apply(Maybe.of("a")));
+    }
+
+    @Test
+    void test_null_arguments() {
+        final MaybePipeline<String, String> base = MaybePipeline.identity();
+        assertThrows(NullPointerException.class, () -> base.map(null));
+        assertThrows(NullPointerException.class, () -> base.filter(null));
+        assertThrows(NullPointerException.class, () -> base.ifNull(null));
+        assertThrows(NullPointerException.class, () -> base.or(null));
+        assertThrows(NullPointerException.class, () -> base.apply(null));
+    }
+
+}
@@ -0,0 +1,32 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class MaybeStreamsTest {
+
+    @Test
+    void test_present() {
+        final Stream<Maybe<String>> maybes = Stream.of(Maybe.of("a"), Maybe.absent(), Maybe.of(null));
+
+        assertEquals(Arrays.asList("a", null), MaybeStreams.present(maybes).collect(Collectors.toList()));
+    }
+
+    @Test
+    void test_present_same_as_flatMap() {
+        final List<Maybe<Integer>> maybes = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 3 == 0 ? Maybe.<Integer>absent() : Maybe.of(i % 5 == 0 ? null : i))
+                .collect(Collectors.toList());
+
+        assertEquals(maybes.stream().flatMap(Maybe::stream).collect(Collectors.toList()),
+                MaybeStreams.present(maybes.parallelStream()).collect(Collectors.toList()));
+    }
+
+}
@@ -3,15 +3,41 @@ package software.leonov.maybe;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 class MaybeTest {
@@ -30,6 +56,49 @@ class MaybeTest {
         assertTrue(present.isPresent());
     }
 
+    @Test
+    void test_of_canonical_instances() {
+        assertSame(Maybe.of(null), Maybe.of(null));
+        assertSame(Maybe.of(true), Maybe.of(Boolean.TRUE));
+        assertSame(Maybe.of(false), Maybe.of(Boolean.FALSE));
+        assertSame(Maybe.of(-128), Maybe.of(-128));
+        assertSame(Maybe.of(127), Maybe.of(127));
+        assertSame(Maybe.of(TimeUnit.SECONDS), Maybe.of(TimeUnit.SECONDS));
+        assertNotSame(Maybe.of(TimeUnit.SECONDS), Maybe.of(TimeUnit.MINUTES));
+    }
+
+    @Test
+    void test_of_preserves_identity() {
+        final Integer boxed = Integer.valueOf(1000); // outside the Integer cache so not a canonical instance
+
+        assertSame(boxed, Maybe.of(boxed).get());
+        assertEquals(Maybe.of(1000), Maybe.of(boxed));
+    }
+
+    enum Colour {
+        RED
+    }
+
+    @Test
+    void test_of_does_not_cache_enums_from_child_class_loaders() throws Exception {
+        final URL[] classpath = { MaybeTest.class.getProtectionDomain().getCodeSource().getLocation() };
+        try (final URLClassLoader loader = new URLClassLoader(classpath, null)) {
+            final Object red = Class.forName(Colour.class.getName(), true, loader).getEnumConstants()[0];
+
+            assertNotSame(Maybe.of(red), Maybe.of(red));
+            assertEquals(Maybe.of(red), Maybe.of(red));
+            assertSame(red, Maybe.of(red).get());
+        }
+        assertSame(Maybe.of(Colour.RED), Maybe.of(Colour.RED));
+    }
+
+    @Test
+    void test_map_canonical_instances() {
+        assertSame(Maybe.of(null), Maybe.of("Hello").map(s -> null));
+        assertSame(Maybe.of(5), Maybe.of("Hello").map(String::length));
+        assertSame(Maybe.of(true), Maybe.of("Hello").map(s -> true).filter(b -> b));
+    }
+
     @Test
     void test_map_get_existing_key() {
         final Map<String, String> map = new HashMap<>();
@@ -60,6 +129,180 @@ class MaybeTest {
         assertEquals("value", value.get());
     }
 
+    @Test
+    void test_map_get_null_value() {
+        final Map<String, String> map = new HashMap<>();
+        map.put("key", null);
+
+        final Maybe<String> value = Maybe.get(map, "key");
+
+        assertTrue(value.isNull());
+    }
+
+    @Test
+    void test_map_get_concurrent_map() {
+        final Map<String, String> map = new ConcurrentHashMap<>();
+        map.put("key", "value");
+
+        assertEquals("value", Maybe.get(map, "key").get());
+        assertFalse(Maybe.get(map, "unknown").isPresent());
+    }
+
+    @Test
+    void test_map_get_tree_map() {
+        final Map<String, String> map = new TreeMap<>();
+        map.put("key", "value");
+        map.put("null", null);
+
+        assertEquals("value", Maybe.get(map, "key").get());
+        assertTrue(Maybe.get(map, "null").isNull());
+        assertFalse(Maybe.get(map, "unknown").isPresent());
+    }
+
+    @Test
+    void test_map_get_enum_map() {
+        final Map<TimeUnit, String> map = new EnumMap<>(TimeUnit.class);
+        map.put(TimeUnit.SECONDS, "value");
+        map.put(TimeUnit.MINUTES, null);
+
+        assertEquals("value", Maybe.get(map, TimeUnit.SECONDS).get());
+        assertTrue(Maybe.get(map, TimeUnit.MINUTES).isNull());
+        assertFalse(Maybe.get(map, TimeUnit.HOURS).isPresent());
+        assertFalse(Maybe.get(map, "SECONDS").isPresent());
+    }
+
+    @Test
+    void test_map_get_identity_map() {
+        final String              key = new String("key");
+        final Map<String, String> map = new IdentityHashMap<>();
+        map.put(key, null);
+
+        assertTrue(Maybe.get(map, key).isNull());
+        assertFalse(Maybe.get(map, "key").isPresent());
+    }
+
+    @Test
+    void test_map_get_unmodifiable_map() {
+        final Map<String, String> map = new HashMap<>();
+        map.put("null", null);
+
+        final Map<String, String> unmodifiable = Collections.unmodifiableMap(map);
+
+        assertTrue(Maybe.get(unmodifiable, "null").isNull());
+        assertFalse(Maybe.get(unmodifiable, "unknown").isPresent());
+    }
+
+    private static void assertGetAll(final Map<String, String> map) {
+        final MaybeArray<String> results = Maybe.getAll(map, "key", "null", "unknown", "key");
+        assertEquals(Arrays.asList(Maybe.of("value"), Maybe.of(null), Maybe.absent(), Maybe.of("value")),
+                results.asList());
+        assertEquals(results, Maybe.getAll(map, Arrays.asList("key", "null", "unknown", "key")));
+        assertEquals(results, Maybe.getAll(map, (Iterable<String>) () -> Arrays.asList("key", "null", "unknown", "key")
+                .iterator()));
+    }
+
+    @Test
+    void test_map_getAll() {
+        final Map<String, String> map = new HashMap<>();
+        map.put("key", "value");
+        map.put("null", null);
+
+        assertGetAll(map);
+        assertGetAll(new TreeMap<>(map));
+        assertGetAll(Collections.unmodifiableMap(map));
+        assertGetAll(new MaybeHashMap<>(map));
+        assertEquals(0, Maybe.getAll(map).length());
+    }
+
+    @Test
+    void test_map_getAll_concurrent_map() {
+        final Map<String, String> map = new ConcurrentHashMap<>();
+        map.put("key", "value");
+
+        final MaybeArray<String> results = Maybe.getAll(map, "key", "unknown");
+        assertEquals(Arrays.asList(Maybe.of("value"), Maybe.absent()), results.asList());
+    }
+
+    @Test
+    void test_map_getAll_large_concurrent_map() {
+        final Map<Integer, Integer> map = new ConcurrentHashMap<>();
+        for (int i = 0; i < 100_000; i += 2)
+            map.put(i, i);
+        final Integer[] keys = new Integer[100_003];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = i;
+
+        final MaybeArray<Integer> results = Maybe.getAll(map, (Object[]) keys);
+        assertEquals(keys.length, results.length());
+        assertEquals(50_000, results.countPresent());
+        for (int i = 0; i < keys.length; i++)
+            assertEquals(Maybe.get(map, i), results.get(i));
+    }
+
+    private static final class LoaderMap extends HashMap<String, String> implements MaybeLoader<String, String> {
+
+        private static final long serialVersionUID = 1L;
+
+        private int batches;
+
+        @Override
+        public Maybe<String> load(final String key) {
+            return Maybe.of("loaded");
+        }
+
+        @Override
+        public MaybeArray<String> loadAll(final List<? extends String> keys) {
+            batches++;
+            return MaybeLoader.super.loadAll(keys);
+        }
+
+    }
+
+    @Test
+    void test_map_get_reads_maps_which_are_loaders() {
+        final LoaderMap map = new LoaderMap();
+        map.put("key", "value");
+        map.put("null", null);
+
+        assertGetAll(map);
+        assertTrue(Maybe.get(map, "null").isNull());
+        assertFalse(Maybe.get(map, "unknown").isPresent());
+        assertEquals(0, map.batches);
+    }
+
+    @Test
+    void test_loader_getAll() {
+        final LoaderMap map = new LoaderMap();
+
+        assertEquals(Arrays.asList(Maybe.of("loaded"), Maybe.of("loaded")),
+                Maybe.getAll((MaybeLoader<String, String>) map, "a", "b").asList());
+        assertEquals(2, Maybe.getAll((MaybeLoader<String, String>) map, Arrays.asList("a", "b")).length());
+        assertEquals(1, Maybe.getAll((MaybeLoader<String, String>) map, (Iterable<String>) () -> Arrays.asList("a")
+                .iterator()).length());
+        assertEquals(3, map.batches);
+
+        final MaybeLoader<String, String> broken = new MaybeLoader<String, String>() {
+            @Override
+            public Maybe<String> load(final String key) {
+                return Maybe.absent();
+            }
+
+            @Override
+            public MaybeArray<String> loadAll(final List<? extends String> keys) {
+                return new MaybeArray<>(keys.size() + 1);
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> Maybe.getAll(broken, "a"));
+    }
+
+    @Test
+    void test_loader_loadAll() {
+        final MaybeLoader<Integer, String> loader = key -> key < 0 ? Maybe.absent()
+                : Maybe.of(key == 0 ? null : key.toString());
+        assertEquals(Arrays.asList(Maybe.absent(), Maybe.of(null), Maybe.of("1")),
+                loader.loadAll(Arrays.asList(-1, 0, 1)).asList());
+    }
+
 //    @Test
 //    void test_get_PathExisting() {
 //        Path path = Paths.get("path/to/file");
@@ -74,6 +317,33 @@ class MaybeTest {
 //        assertFalse(pathOption.isPresent());
 //    }
 
+    @Test
+    void test_combineNullable_absent_wins() {
+        assertFalse(Maybe.combineNullable(Maybe.of(null), Maybe.absent(), (a, b) -> fail()).isPresent());
+        assertFalse(Maybe.combineNullable(Maybe.absent(), Maybe.of(null), (a, b) -> fail()).isPresent());
+    }
+
+    @Test
+    void test_combineNullable_null_propagates() {
+        final Maybe<String> result = Maybe.combineNullable(Maybe.of("a"), Maybe.<String>of(null), (a, b) -> fail());
+
+        assertTrue(result.isPresent());
+        assertTrue(result.isNull());
+    }
+
+    @Test
+    void test_combineNullable_present() {
+        assertEquals(Maybe.of("ab"), Maybe.combineNullable(Maybe.of("a"), Maybe.of("b"), String::concat));
+        assertEquals(Maybe.of("abc"),
+                Maybe.combineNullable(Maybe.of("a"), Maybe.of("b"), Maybe.of("c"), (a, b, c) -> a + b + c));
+        assertEquals(Maybe.of("abcd"), Maybe.combineNullable(Maybe.of("a"), Maybe.of("b"), Maybe.of("c"),
+                Maybe.of("d"), (a, b, c, d) -> a + b + c + d));
+        assertEquals(Maybe.of("abcde"), Maybe.combineNullable(Maybe.of("a"), Maybe.of("b"), Maybe.of("c"),
+                Maybe.of("d"), Maybe.of("e"), (a, b, c, d, e) -> a + b + c + d + e));
+        assertTrue(Maybe.combineNullable(Maybe.of("a"), Maybe.of("b"), Maybe.of("c"), Maybe.of("d"),
+                Maybe.<String>of(null), (a, b, c, d, e) -> fail()).isNull());
+    }
+
     @Test
     void test_defaultTo_present() {
         final Maybe<String> present = Maybe.of("Hello");
@@ -94,6 +364,33 @@ class MaybeTest {
         assertEquals("default", absent.defaultTo("default"));
     }
 
+    @Test
+    void test_defaultToInt() {
+        assertEquals(5, Maybe.of("Hello").defaultToInt(String::length, -1));
+        assertEquals(0, Maybe.<String>of(null).defaultToInt(s -> s == null ? 0 : 1, -1));
+        assertEquals(-1, Maybe.<String>absent().defaultToInt(String::length, -1));
+    }
+
+    @Test
+    void test_defaultToLong() {
+        assertEquals(5L, Maybe.of("Hello").defaultToLong(String::length, -1L));
+        assertEquals(0L, Maybe.<String>of(null).defaultToLong(s -> s == null ? 0L : 1L, -1L));
+        assertEquals(-1L, Maybe.<String>absent().defaultToLong(String::length, -1L));
+    }
+
+    @Test
+    void test_defaultToDouble() {
+        assertEquals(2.5, Maybe.of("Hello").defaultToDouble(s -> s.length() / 2.0, -1.0));
+        assertEquals(0.0, Maybe.<String>of(null).defaultToDouble(s -> s == null ? 0.0 : 1.0, -1.0));
+        assertEquals(-1.0, Maybe.<String>absent().defaultToDouble(String::length, -1.0));
+    }
+
+    @Test
+    void test_defaultToInt_null_function_throws() {
+        assertThrows(NullPointerException.class, () -> Maybe.of("Hello").defaultToInt(null, -1));
+        assertThrows(NullPointerException.class, () -> Maybe.absent().defaultToInt(null, -1));
+    }
+
     @Test
     void test_filter_matching_predicate() {
         final Maybe<String> present  = Maybe.of("Hello");
@@ -124,6 +421,28 @@ class MaybeTest {
         assertThrows(NoSuchElementException.class, absent::get);
     }
 
+    @Test
+    void test_getOrFail_present() {
+        assertEquals("Hello", Maybe.of("Hello").getOrFail());
+        assertNull(Maybe.of(null).getOrFail());
+    }
+
+    @Test
+    void test_getOrFail_absent_throws_shared_stackless() {
+        final Maybe<String> absent = Maybe.absent();
+
+        final NoSuchElementException first  = assertThrows(NoSuchElementException.class, absent::getOrFail);
+        final NoSuchElementException second = assertThrows(NoSuchElementException.class, absent::getOrFail);
+
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+
+        assertThrows(IllegalStateException.class, () -> first.initCause(new RuntimeException()));
+        first.setStackTrace(new Throwable().getStackTrace());
+        assertNull(first.getCause());
+        assertEquals(0, first.getStackTrace().length);
+    }
+
     @Test
     void test_ifNotNull_present() {
         final Maybe<String> present = Maybe.of("Hello");
@@ -276,6 +595,27 @@ class MaybeTest {
         assertThrows(IllegalStateException.class, () -> absent.orElseThrow(IllegalStateException::new));
     }
 
+    @Test
+    void test_orElseFail_present() {
+        final IllegalStateException e = new IllegalStateException();
+
+        assertEquals("Hello", Maybe.of("Hello").orElseFail(e));
+        assertNull(Maybe.of(null).orElseFail(e));
+    }
+
+    @Test
+    void test_orElseFail_absent() {
+        final IllegalStateException e = new IllegalStateException();
+
+        assertSame(e, assertThrows(IllegalStateException.class, () -> Maybe.absent().orElseFail(e)));
+    }
+
+    @Test
+    void test_orElseFail_null_throws() {
+        assertThrows(NullPointerException.class, () -> Maybe.of("Hello").orElseFail(null));
+        assertThrows(NullPointerException.class, () -> Maybe.absent().orElseFail(null));
+    }
+
     @Test
     void test_orNull_present() {
         final Maybe<String> present = Maybe.of("Hello");
@@ -305,6 +645,27 @@ class MaybeTest {
         assertEquals(0, absent.stream().count());
     }
 
+    @Test
+    void test_stream_sized_spliterator() {
+        final Spliterator<String> present = Maybe.of("Hello").stream().spliterator();
+        final Spliterator<String> nul     = Maybe.<String>of(null).stream().spliterator();
+
+        assertEquals(1, present.getExactSizeIfKnown());
+        assertTrue(present.hasCharacteristics(Spliterator.NONNULL));
+        assertEquals(1, nul.getExactSizeIfKnown());
+        assertFalse(nul.hasCharacteristics(Spliterator.NONNULL));
+        assertTrue(nul.tryAdvance(Assertions::assertNull));
+        assertFalse(nul.tryAdvance(value -> fail()));
+        assertEquals(0, nul.estimateSize());
+    }
+
+    @Test
+    void test_stream_flatMap() {
+        final Stream<Maybe<String>> maybes = Stream.of(Maybe.of("a"), Maybe.absent(), Maybe.of(null));
+
+        assertEquals(Arrays.asList("a", null), maybes.flatMap(Maybe::stream).collect(Collectors.toList()));
+    }
+
     @Test
     void test_toOptional_present() {
         final Maybe<String> present = Maybe.of("Hello");
@@ -319,6 +680,12 @@ class MaybeTest {
         assertFalse(absent.toOptional().isPresent());
     }
 
+    @Test
+    void test_toOptional_shared_empty() {
+        assertSame(Optional.empty(), Maybe.absent().toOptional());
+        assertSame(Optional.empty(), Maybe.of(null).toOptional());
+    }
+
     @Test
     void test_equals_hashCode() {
         final Maybe<String> option1 = Maybe.of("Hello");
@@ -331,6 +698,45 @@ class MaybeTest {
         assertNotEquals(option1.hashCode(), option3.hashCode());
     }
 
+    @Test
+    void test_hashCode_values() {
+        assertEquals(Objects.hash(true, "Hello"), Maybe.of("Hello").hashCode());
+        assertEquals(Objects.hash(true, null), Maybe.of(null).hashCode());
+        assertEquals(Objects.hash(false, null), Maybe.absent().hashCode());
+    }
+
+    @Test
+    void test_equals_states() {
+        assertEquals(Maybe.absent(), Maybe.absent());
+        assertEquals(Maybe.of(null), Maybe.of(null));
+        assertNotEquals(Maybe.absent(), Maybe.of(null));
+        assertNotEquals(Maybe.of(null), Maybe.absent());
+        assertNotEquals(Maybe.of(null), Maybe.of("Hello"));
+        assertNotEquals(Maybe.of("Hello"), Maybe.of(null));
+        assertNotEquals(Maybe.of("Hello"), Maybe.absent());
+        assertNotEquals(Maybe.of("Hello"), "Hello");
+    }
+
+    @Test
+    void test_null_operations() {
+        final Maybe<String> maybe = Maybe.of(null);
+
+        assertTrue(maybe.isPresent());
+        assertTrue(maybe.isNull());
+        assertNull(maybe.get());
+        assertNull(maybe.orElseGet(() -> "default"));
+        assertSame(maybe, maybe.or(Maybe.of("Other")));
+        assertEquals(Maybe.of("null"), maybe.map(String::valueOf));
+        assertFalse(maybe.filter(s -> s != null).isPresent());
+        assertEquals(1, maybe.stream().count());
+        assertThrows(IllegalStateException.class, () -> maybe.ifNullThrow(IllegalStateException::new));
+    }
+
+    @Test
+    void test_toString_null() {
+        assertEquals("Maybe[null]", Maybe.of(null).toString());
+    }
+
     @Test
     void test_toString_present() {
         final Maybe<String> present = Maybe.of("Hello");
@@ -344,4 +750,172 @@ class MaybeTest {
 
         assertEquals("Maybe[]", absent.toString());
     }
+
+    private static <T> Supplier<Maybe<T>> counting(final AtomicInteger calls, final Maybe<T> outcome) {
+        return () -> {
+            calls.incrementAndGet();
+            return outcome;
+        };
+    }
+
+    @Test
+    void test_lazy_defers_and_memoizes() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Maybe<String> lazy  = Maybe.lazy(counting(calls, Maybe.of("value")));
+        assertEquals(0, calls.get());
+        assertEquals("value", lazy.get());
+        assertTrue(lazy.isPresent());
+        assertEquals("Maybe[value]", lazy.toString());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void test_lazy_caches_null_and_absent() {
+        final AtomicInteger calls  = new AtomicInteger();
+        final Maybe<String> nul    = Maybe.lazy(counting(calls, Maybe.of(null)));
+        final Maybe<String> absent = Maybe.lazy(counting(calls, Maybe.absent()));
+        assertTrue(nul.isNull());
+        assertTrue(nul.isNull());
+        assertFalse(absent.isPresent());
+        assertFalse(absent.isPresent());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void test_lazy_map_and_filter_do_not_evaluate() {
+        final AtomicInteger  calls  = new AtomicInteger();
+        final Maybe<String>  lazy   = Maybe.lazy(counting(calls, Maybe.of("value")));
+        final Maybe<Integer> mapped = lazy.map(String::length).filter(n -> n > 3).or(Maybe.of(0))
+                .ifNull(Maybe.of(-1));
+        assertEquals(0, calls.get());
+        assertEquals(Integer.valueOf(5), mapped.get());
+        assertEquals(Maybe.absent(), lazy.filter(String::isEmpty));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void test_lazy_evaluated_chains_stay_deferred() {
+        final AtomicInteger calls   = new AtomicInteger();
+        final Maybe<String> present = Maybe.lazy(() -> Maybe.of("value"));
+        final Maybe<String> absent  = Maybe.lazy(Maybe::absent);
+        present.isPresent();
+        absent.isPresent();
+
+        final Maybe<Integer> mapped   = present.map(s -> calls.incrementAndGet());
+        final Maybe<String>  filtered = present.filter(s -> calls.incrementAndGet() > 0);
+        assertEquals(0, calls.get());
+        assertEquals(Maybe.of(1), mapped);
+        assertEquals(1, calls.get());
+        assertEquals(Maybe.of(1), mapped);
+        assertEquals(1, calls.get());
+        assertEquals(Maybe.of("value"), filtered);
+        assertEquals(2, calls.get());
+        assertEquals(Maybe.absent(), absent.map(String::length).filter(n -> n > 0).or(Maybe.absent()));
+    }
+
+    @Test
+    void test_lazy_equals_eager() {
+        assertEquals(Maybe.of("a"), Maybe.lazy(() -> Maybe.of("a")));
+        assertEquals(Maybe.lazy(() -> Maybe.of("a")), Maybe.of("a"));
+        assertEquals(Maybe.of(null), Maybe.lazy(() -> Maybe.of(null)));
+        assertEquals(Maybe.absent(), Maybe.lazy(Maybe::absent));
+        assertEquals(Maybe.lazy(Maybe::absent), Maybe.lazy(Maybe::absent));
+        assertNotEquals(Maybe.absent(), Maybe.lazy(() -> Maybe.of(null)));
+        assertEquals(Maybe.of("a").hashCode(), Maybe.lazy(() -> Maybe.of("a")).hashCode());
+    }
+
+    @Test
+    void test_lazy_retries_after_exception() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Maybe<String> lazy  = Maybe.lazy(() -> {
+            if (calls.incrementAndGet() == 1)
+                throw new IllegalStateException();
+            return Maybe.of("value");
+        });
+        assertThrows(IllegalStateException.class, lazy::isPresent);
+        assertEquals("value", lazy.get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void test_lazy_recursive_evaluation() {
+        final AtomicReference<Maybe<String>> self = new AtomicReference<>();
+        self.set(Maybe.lazy(() -> self.get().map(s -> s + "!")));
+        assertThrows(IllegalStateException.class, () -> self.get().get());
+    }
+
+    @Test
+    void test_lazy_null_supplier_result() {
+        assertThrows(NullPointerException.class, () -> Maybe.lazy(() -> null).isPresent());
+        assertThrows(NullPointerException.class, () -> Maybe.lazy(null));
+    }
+
+    private static void assertConcurrentFirstAccess(final boolean allowDuplicates, final int expectedMaxCalls)
+            throws Exception {
+        final int             threads  = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 50; round++) {
+                final AtomicInteger        calls   = new AtomicInteger();
+                final CountDownLatch       start   = new CountDownLatch(1);
+                final List<Future<Object>> results = new ArrayList<>();
+                final Maybe<Object>        lazy    = Maybe.lazy(() -> {
+                    calls.incrementAndGet();
+                    Thread.yield();
+                    return Maybe.of(new Object());
+                }, allowDuplicates);
+                for (int t = 0; t < threads; t++)
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return lazy.get();
+                    }));
+                start.countDown();
+                final Object first = results.get(0).get();
+                for (final Future<Object> result : results)
+                    assertSame(first, result.get());
+                assertTrue(calls.get() >= 1 && calls.get() <= expectedMaxCalls);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_lazy_concurrent_at_most_once() throws Exception {
+        assertConcurrentFirstAccess(false, 1);
+    }
+
+    @Test
+    void test_lazy_concurrent_allow_duplicates() throws Exception {
+        assertConcurrentFirstAccess(true, 8);
+    }
+    @Test
+    void test_zip_present() {
+        assertEquals(Maybe.of("ab"), Maybe.zip(Maybe.of("a"), Maybe.of("b"), String::concat));
+        assertEquals(Maybe.of("abc"), Maybe.zip(Maybe.of("a"), Maybe.of("b"), Maybe.of("c"), (a, b, c) -> a + b + c));
+        assertEquals(Maybe.of("abcd"),
+                Maybe.zip(Maybe.of("a"), Maybe.of("b"), Maybe.of("c"), Maybe.of("d"), (a, b, c, d) -> a + b + c + d));
+        assertEquals(Maybe.of("abcde"), Maybe.zip(Maybe.of("a"), Maybe.of("b"), Maybe.of("c"), Maybe.of("d"),
+                Maybe.of("e"), (a, b, c, d, e) -> a + b + c + d + e));
+    }
+
+    @Test
+    void test_zip_null_is_passed_to_the_function() {
+        assertEquals(Maybe.of("anull"), Maybe.zip(Maybe.of("a"), Maybe.of(null), (a, b) -> a + b));
+    }
+
+    @Test
+    void test_zip_absent_short_circuits() {
+        assertFalse(Maybe.zip(Maybe.of("a"), Maybe.absent(), (a, b) -> fail()).isPresent());
+        assertFalse(Maybe.zip(Maybe.absent(), Maybe.lazy(() -> fail()), (a, b) -> fail()).isPresent());
+        assertFalse(Maybe.zip(Maybe.of("a"), Maybe.of("b"), Maybe.of("c"), Maybe.of("d"), Maybe.absent(),
+                (a, b, c, d, e) -> fail()).isPresent());
+    }
+
+    @Test
+    void test_zip_null_arguments_throw() {
+        assertThrows(NullPointerException.class, () -> Maybe.zip(null, Maybe.of("b"), String::concat));
+        assertThrows(NullPointerException.class, () -> Maybe.zip(Maybe.of("a"), Maybe.of("b"), null));
+    }
+
 }
@@ -0,0 +1,318 @@
+package software.leonov.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class MaybeFlowTest {
+
+    // emits the given elements synchronously on demand and records every request
+    private static final class RecordingPublisher<T> implements Flow.Publisher<T> {
+
+        private final List<T>    elements;
+        private final List<Long> requests = new ArrayList<>();
+        private boolean          cancelled;
+
+        private RecordingPublisher(final List<T> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                private int     index;
+                private long    demand;
+                private boolean emitting;
+
+                @Override
+                public void request(final long n) {
+                    requests.add(n);
+                    demand += n;
+                    if (emitting)
+                        return;
+                    emitting = true;
+                    while (demand > 0 && index < elements.size() && !cancelled) {
+                        demand--;
+                        subscriber.onNext(elements.get(index++));
+                    }
+                    emitting = false;
+                    if (index == elements.size() && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+
+            });
+        }
+
+    }
+
+    private static final class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final long       initialRequest;
+        private final List<T>    items = new CopyOnWriteArrayList<>();
+        private Flow.Subscription subscription;
+        private volatile boolean complete;
+        private volatile Throwable error;
+
+        private TestSubscriber(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest != 0)
+                subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(final T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            complete = true;
+        }
+
+    }
+
+    private static List<Maybe<Integer>> elements(final int count) {
+        final List<Maybe<Integer>> elements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            elements.add(i % 3 == 0 ? Maybe.absent() : i % 3 == 1 ? Maybe.of(null) : Maybe.of(i));
+        return elements;
+    }
+
+    @Test
+    void test_just() {
+        final TestSubscriber<Maybe<String>> subscriber = new TestSubscriber<>(1);
+        MaybeFlow.just(Maybe.of("a")).subscribe(subscriber);
+        assertEquals(Arrays.asList(Maybe.of("a")), subscriber.items);
+        assertTrue(subscriber.complete);
+    }
+
+    @Test
+    void test_just_waits_for_demand() {
+        final TestSubscriber<Maybe<String>> subscriber = new TestSubscriber<>(0);
+        MaybeFlow.just(Maybe.<String>absent()).subscribe(subscriber);
+        assertTrue(subscriber.items.isEmpty());
+        subscriber.subscription.request(5);
+        subscriber.subscription.request(5);
+        assertEquals(Arrays.asList(Maybe.absent()), subscriber.items);
+    }
+
+    @Test
+    void test_just_bad_request() {
+        final TestSubscriber<Maybe<String>> subscriber = new TestSubscriber<>(-1);
+        MaybeFlow.just(Maybe.of("a")).subscribe(subscriber);
+        assertTrue(subscriber.items.isEmpty());
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void test_filterPresent() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(9));
+        final Flow.Processor<Maybe<Integer>, Maybe<Integer>> processor = MaybeFlow.filterPresent();
+        final TestSubscriber<Maybe<Integer>> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        assertEquals(Arrays.asList(Maybe.of(null), Maybe.of(2), Maybe.of(null), Maybe.of(5), Maybe.of(null),
+                Maybe.of(8)), subscriber.items);
+        assertTrue(subscriber.complete);
+    }
+
+    @Test
+    void test_filterPresent_batches_demand() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(10_000));
+        final Flow.Processor<Maybe<Integer>, Maybe<Integer>> processor = MaybeFlow.filterPresent();
+        final TestSubscriber<Maybe<Integer>> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+        assertEquals(6_666, subscriber.items.size());
+        assertTrue(subscriber.complete);
+
+        final int prefetch = Flow.defaultBufferSize();
+        assertEquals(prefetch, (long) publisher.requests.get(0));
+        for (final long n : publisher.requests.subList(1, publisher.requests.size()))
+            assertEquals(prefetch - prefetch / 4, n);
+        assertTrue(publisher.requests.size() < 10_000 / (prefetch / 2));
+    }
+
+    @Test
+    void test_filterPresent_honours_downstream_demand() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(1_000));
+        final Flow.Processor<Maybe<Integer>, Maybe<Integer>> processor = MaybeFlow.filterPresent();
+        final TestSubscriber<Maybe<Integer>> subscriber = new TestSubscriber<>(5);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        assertEquals(5, subscriber.items.size());
+        subscriber.subscription.request(10);
+        assertEquals(15, subscriber.items.size());
+        assertFalse(subscriber.complete);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(666, subscriber.items.size());
+        assertTrue(subscriber.complete);
+    }
+
+    @Test
+    void test_filterPresent_cancel() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(1_000));
+        final Flow.Processor<Maybe<Integer>, Maybe<Integer>> processor = MaybeFlow.filterPresent();
+        final TestSubscriber<Maybe<Integer>> subscriber = new TestSubscriber<>(1);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        subscriber.subscription.cancel();
+        assertTrue(publisher.cancelled);
+        subscriber.subscription.request(10);
+        assertEquals(1, subscriber.items.size());
+    }
+
+    @Test
+    void test_filterPresent_bad_request() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(1_000));
+        final Flow.Processor<Maybe<Integer>, Maybe<Integer>> processor = MaybeFlow.filterPresent();
+        final TestSubscriber<Maybe<Integer>> subscriber = new TestSubscriber<>(0);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    void test_filterPresent_second_subscriber() {
+        final Flow.Processor<Maybe<Integer>, Maybe<Integer>> processor = MaybeFlow.filterPresent();
+        processor.subscribe(new TestSubscriber<>(1));
+        final TestSubscriber<Maybe<Integer>> second = new TestSubscriber<>(1);
+        processor.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    void test_mapPresent() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(4));
+        final Flow.Processor<Maybe<Integer>, Maybe<String>> processor = MaybeFlow.mapPresent(String::valueOf);
+        final TestSubscriber<Maybe<String>> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        assertEquals(Arrays.asList(Maybe.absent(), Maybe.of("null"), Maybe.of("2"), Maybe.absent()), subscriber.items);
+    }
+
+    @Test
+    void test_mapPresent_function_throws() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(10));
+        final Flow.Processor<Maybe<Integer>, Maybe<Integer>> processor = MaybeFlow.mapPresent(i -> i + 1);
+        final TestSubscriber<Maybe<Integer>> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        assertEquals(Arrays.asList(Maybe.absent()), subscriber.items);
+        assertTrue(subscriber.error instanceof NullPointerException);
+        assertFalse(subscriber.complete);
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    void test_defaultAbsent() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(4));
+        final Flow.Processor<Maybe<Integer>, Maybe<Integer>> processor = MaybeFlow.defaultAbsent(-1);
+        final TestSubscriber<Maybe<Integer>> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        assertEquals(Arrays.asList(Maybe.of(-1), Maybe.of(null), Maybe.of(2), Maybe.of(-1)), subscriber.items);
+        assertTrue(subscriber.complete);
+    }
+
+    @Test
+    void test_splitByState() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(9));
+        final TestSubscriber<Maybe<Integer>> absent = new TestSubscriber<>(Long.MAX_VALUE);
+        final TestSubscriber<Maybe<Integer>> nulls = new TestSubscriber<>(Long.MAX_VALUE);
+        final TestSubscriber<Maybe<Integer>> present = new TestSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(MaybeFlow.splitByState(absent, nulls, present));
+        assertEquals(3, absent.items.size());
+        assertTrue(absent.items.stream().noneMatch(Maybe::isPresent));
+        assertEquals(3, nulls.items.size());
+        assertTrue(nulls.items.stream().allMatch(Maybe::isNull));
+        assertEquals(Arrays.asList(Maybe.of(2), Maybe.of(5), Maybe.of(8)), present.items);
+        assertTrue(absent.complete && nulls.complete && present.complete);
+    }
+
+    @Test
+    void test_splitByState_slow_subscriber_holds_back() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(9));
+        final TestSubscriber<Maybe<Integer>> absent = new TestSubscriber<>(Long.MAX_VALUE);
+        final TestSubscriber<Maybe<Integer>> nulls = new TestSubscriber<>(1);
+        final TestSubscriber<Maybe<Integer>> present = new TestSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(MaybeFlow.splitByState(absent, nulls, present));
+        assertEquals(1, nulls.items.size());
+        assertEquals(Arrays.asList(Maybe.of(2)), present.items);
+        assertEquals(2, absent.items.size());
+        assertFalse(present.complete);
+
+        nulls.subscription.request(10);
+        assertEquals(3, nulls.items.size());
+        assertEquals(3, present.items.size());
+        assertTrue(absent.complete && nulls.complete && present.complete);
+    }
+
+    @Test
+    void test_splitByState_cancel() {
+        final RecordingPublisher<Maybe<Integer>> publisher = new RecordingPublisher<>(elements(9));
+        final TestSubscriber<Maybe<Integer>> absent = new TestSubscriber<>(Long.MAX_VALUE);
+        final TestSubscriber<Maybe<Integer>> nulls = new TestSubscriber<>(0);
+        final TestSubscriber<Maybe<Integer>> present = new TestSubscriber<>(0);
+        publisher.subscribe(MaybeFlow.splitByState(absent, nulls, present));
+        assertEquals(1, absent.items.size());
+
+        nulls.subscription.cancel();
+        assertEquals(1, absent.items.size());
+        present.subscription.cancel();
+        assertEquals(3, absent.items.size());
+        assertTrue(absent.complete);
+        assertTrue(nulls.items.isEmpty() && present.items.isEmpty());
+        assertFalse(nulls.complete || present.complete);
+    }
+
+    @Test
+    void test_asynchronous_pipeline() throws InterruptedException {
+        final Flow.Processor<Maybe<Integer>, Maybe<Integer>> processor = MaybeFlow.filterPresent();
+        final TestSubscriber<Maybe<Integer>> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        try (final SubmissionPublisher<Maybe<Integer>> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            processor.subscribe(subscriber);
+            for (final Maybe<Integer> maybe : elements(30_000))
+                publisher.submit(maybe);
+        }
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!subscriber.complete && System.nanoTime() < deadline)
+            Thread.sleep(1);
+        assertNull(subscriber.error);
+        assertTrue(subscriber.complete);
+        assertEquals(20_000, subscriber.items.size());
+    }
+
+}
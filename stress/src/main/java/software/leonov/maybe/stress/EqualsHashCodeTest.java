@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.stress;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Publishes a present {@code Maybe} through a plain (non-volatile) field while another thread compares it to an equal
+ * instance of its own.
+ * <p>
+ * Once the reference is visible, {@link Maybe#equals(Object)} and {@link Maybe#hashCode()} must agree with the locally
+ * created instance; a racy reader may not observe a partially constructed value.
+ * 
+ * @author Zhenya Leonov
+ */
+@JCStressTest
+@Outcome(id = "false, false", expect = ACCEPTABLE, desc = "The instance has not been published yet.")
+@Outcome(id = "true, true",   expect = ACCEPTABLE, desc = "The published instance is equal to the local one.")
+@Outcome(                     expect = FORBIDDEN,  desc = "equals or hashCode saw a partially constructed value.")
+@State
+public class EqualsHashCodeTest {
+
+    static final class Point {
+        int x;
+        int y;
+
+        Point(final int x, final int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Point))
+                return false;
+            final Point other = (Point) obj;
+            return x == other.x && y == other.y;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * x + y;
+        }
+    }
+
+    Maybe<Point> shared;
+
+    @Actor
+    public void writer() {
+        shared = Maybe.of(new Point(3, 4));
+    }
+
+    @Actor
+    public void reader(final ZZ_Result r) {
+        final Maybe<Point> m = shared;
+        if (m != null) {
+            final Maybe<Point> local = Maybe.of(new Point(3, 4));
+            r.r1 = m.equals(local) && local.equals(m);
+            r.r2 = m.hashCode() == local.hashCode();
+        }
+    }
+
+}
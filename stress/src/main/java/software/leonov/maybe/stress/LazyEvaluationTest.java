@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.stress;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.IZ_Result;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Evaluates the same {@link Maybe#lazy(java.util.function.Supplier) lazy} instance from two threads at once.
+ * <p>
+ * Both threads must see the same value. By default the supplier must be called exactly once; when duplicates are
+ * allowed it may be called by each thread, but only one of the results is published.
+ * 
+ * @author Zhenya Leonov
+ */
+public class LazyEvaluationTest {
+
+    private LazyEvaluationTest() {
+    }
+
+    private static Maybe<Object> counting(final AtomicInteger calls, final boolean allowDuplicates) {
+        return Maybe.lazy(() -> {
+            calls.incrementAndGet();
+            return Maybe.of(new Object());
+        }, allowDuplicates);
+    }
+
+    /**
+     * The default mode: racing threads wait for the first evaluation.
+     */
+    @JCStressTest
+    @Outcome(id = "1, true", expect = ACCEPTABLE, desc = "The supplier was called once.")
+    @Outcome(                expect = FORBIDDEN,  desc = "The supplier was called twice or the threads disagree.")
+    @State
+    public static class AtMostOnce {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final Maybe<Object> lazy  = counting(calls, false);
+
+        Object v1;
+        Object v2;
+
+        @Actor
+        public void actor1() {
+            v1 = lazy.get();
+        }
+
+        @Actor
+        public void actor2() {
+            v2 = lazy.get();
+        }
+
+        @Arbiter
+        public void arbiter(final IZ_Result r) {
+            r.r1 = calls.get();
+            r.r2 = v1 == v2;
+        }
+
+    }
+
+    /**
+     * Racing threads may each call the supplier, but only the first result is published.
+     */
+    @JCStressTest
+    @Outcome(id = "1, true", expect = ACCEPTABLE, desc = "The supplier was called once.")
+    @Outcome(id = "2, true", expect = ACCEPTABLE, desc = "Both threads called the supplier; one result won.")
+    @Outcome(                expect = FORBIDDEN,  desc = "The threads disagree.")
+    @State
+    public static class AllowDuplicates {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final Maybe<Object> lazy  = counting(calls, true);
+
+        Object v1;
+        Object v2;
+
+        @Actor
+        public void actor1() {
+            v1 = lazy.get();
+        }
+
+        @Actor
+        public void actor2() {
+            v2 = lazy.get();
+        }
+
+        @Arbiter
+        public void arbiter(final IZ_Result r) {
+            r.r1 = calls.get();
+            r.r2 = v1 == v2;
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.stress;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Publishes a present {@code Maybe} through a plain (non-volatile) field and converts it with
+ * {@link Maybe#toOptional()} on another thread.
+ * <p>
+ * The value of a present instance is held in a {@code final} field, so every object reachable from it must be visible
+ * in its constructed state even when the {@code Maybe} itself is published by a data race. The {@link Box} deliberately
+ * has a non-final field: seeing {@code 0} means the value escaped before the freeze at the end of the constructor.
+ * 
+ * @author Zhenya Leonov
+ */
+@JCStressTest
+@Outcome(id = "-1", expect = ACCEPTABLE, desc = "The instance has not been published yet.")
+@Outcome(id = "42", expect = ACCEPTABLE, desc = "The instance and its value are fully visible.")
+@Outcome(id = "0",  expect = FORBIDDEN,  desc = "The value was seen before it was initialized.")
+@Outcome(id = "-2", expect = FORBIDDEN,  desc = "toOptional() failed on a published instance.")
+@State
+public class PresentPublicationTest {
+
+    static final class Box {
+        int value;
+
+        Box(final int value) {
+            this.value = value;
+        }
+    }
+
+    Maybe<Box> maybe;
+
+    @Actor
+    public void writer() {
+        maybe = Maybe.of(new Box(42));
+    }
+
+    @Actor
+    public void reader(final I_Result r) {
+        final Maybe<Box> m = maybe;
+        if (m == null)
+            r.r1 = -1;
+        else
+            try {
+                r.r1 = m.toOptional().get().value;
+            } catch (final RuntimeException e) {
+                r.r1 = -2;
+            }
+    }
+
+}
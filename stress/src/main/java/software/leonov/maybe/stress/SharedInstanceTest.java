@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.stress;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import java.util.Optional;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZZ_Result;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Obtains the shared {@link Maybe#absent() absent} and {@link Maybe#of(Object) null} instances and converts them to
+ * {@code Optional}s from two threads at once.
+ * <p>
+ * Each thread must see the same singleton, and both kinds of instances must convert to the shared
+ * {@link Optional#empty()} instance.
+ * 
+ * @author Zhenya Leonov
+ */
+@JCStressTest
+@Outcome(id = "true, true, true", expect = ACCEPTABLE, desc = "Both threads saw the same shared instances.")
+@Outcome(                         expect = FORBIDDEN,  desc = "A shared instance was duplicated.")
+@State
+public class SharedInstanceTest {
+
+    Maybe<String>    absent1;
+    Maybe<String>    absent2;
+    Maybe<String>    null1;
+    Maybe<String>    null2;
+    Optional<String> empty1;
+    Optional<String> empty2;
+
+    @Actor
+    public void actor1() {
+        absent1 = Maybe.absent();
+        null1   = Maybe.of(null);
+        empty1  = absent1.toOptional();
+    }
+
+    @Actor
+    public void actor2() {
+        absent2 = Maybe.absent();
+        null2   = Maybe.of(null);
+        empty2  = null2.toOptional();
+    }
+
+    @Arbiter
+    public void arbiter(final ZZZ_Result r) {
+        r.r1 = absent1 == absent2 && !absent1.isPresent() && !absent1.isNull();
+        r.r2 = null1 == null2 && null1.isNull();
+        r.r3 = empty1 == empty2 && empty1 == Optional.<String>empty();
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.leonov.maybe.stress;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import java.util.Optional;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import software.leonov.maybe.Maybe;
+
+/**
+ * Calls {@link Maybe#toOptional()} on the same present instance from two threads at once.
+ * <p>
+ * Both threads must receive an {@code Optional} holding the very same value, and the two {@code Optional}s must be
+ * equal to each other.
+ * 
+ * @author Zhenya Leonov
+ */
+@JCStressTest
+@Outcome(id = "true, true", expect = ACCEPTABLE, desc = "Both threads saw the same value.")
+@Outcome(                   expect = FORBIDDEN,  desc = "The conversions disagree.")
+@State
+public class ToOptionalTest {
+
+    final String        value = new String("value");
+    final Maybe<String> maybe = Maybe.of(value);
+
+    Optional<String> o1;
+    Optional<String> o2;
+
+    @Actor
+    public void actor1() {
+        o1 = maybe.toOptional();
+    }
+
+    @Actor
+    public void actor2() {
+        o2 = maybe.toOptional();
+    }
+
+    @Arbiter
+    public void arbiter(final ZZ_Result r) {
+        r.r1 = o1.get() == value && o2.get() == value;
+        r.r2 = o1.equals(o2);
+    }
+
+}
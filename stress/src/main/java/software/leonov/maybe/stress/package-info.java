@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2023 Zhenya Leonov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * <a href="https://github.com/openjdk/jcstress">jcstress</a> tests for the thread safety guarantees of
+ * {@link software.leonov.maybe.Maybe}: safe publication of present values through racy references, identity of the
+ * shared {@code absent} and {@code null} instances, concurrent {@code toOptional()}, {@code equals} and
+ * {@code hashCode} calls, and the at-most-once evaluation of {@link software.leonov.maybe.Maybe#lazy lazy} instances.
+ * <p>
+ * Build and run from the {@code stress} directory:
+ * 
+ * <pre>{@code
+ * mvn -f ../pom.xml install -Dmaven.javadoc.skip=true
+ * mvn package
+ * java -jar target/jcstress.jar
+ * }</pre>
+ * 
+ * A single test can be selected with {@code -t <regexp>}. Results are most meaningful on a machine with many cores;
+ * on fewer than two cores the actors never run in parallel. Throughput under contention is measured separately by
+ * {@code ToOptionalContentionBenchmark} in the {@code benchmarks} module.
+ */
+package software.leonov.maybe.stress;